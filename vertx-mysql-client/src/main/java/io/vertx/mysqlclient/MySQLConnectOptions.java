@@ -1,6 +1,7 @@
 package io.vertx.mysqlclient;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.ClientOptionsBase;
@@ -15,10 +16,13 @@ import io.vertx.core.net.ProxyOptions;
 import io.vertx.core.net.SSLEngineOptions;
 import io.vertx.core.net.TrustOptions;
 import io.vertx.mysqlclient.impl.MySQLConnectionUriParser;
+import io.vertx.sqlclient.HostSelection;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
 import io.vertx.sqlclient.SqlConnectOptions;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -126,6 +130,28 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     return (MySQLConnectOptions) super.setPort(port);
   }
 
+  @Override
+  @GenIgnore
+  public MySQLConnectOptions setHosts(List<String> hosts) {
+    return (MySQLConnectOptions) super.setHosts(hosts);
+  }
+
+  @Override
+  @GenIgnore
+  public MySQLConnectOptions addHost(String host) {
+    return (MySQLConnectOptions) super.addHost(host);
+  }
+
+  @Override
+  public MySQLConnectOptions setHostSelection(HostSelection hostSelection) {
+    return (MySQLConnectOptions) super.setHostSelection(hostSelection);
+  }
+
+  @Override
+  public MySQLConnectOptions setHostBackoff(long hostBackoff) {
+    return (MySQLConnectOptions) super.setHostBackoff(hostBackoff);
+  }
+
   @Override
   public MySQLConnectOptions setUser(String user) {
     return (MySQLConnectOptions) super.setUser(user);
@@ -156,6 +182,75 @@ public class MySQLConnectOptions extends SqlConnectOptions {
     return (MySQLConnectOptions) super.setPreparedStatementCacheSqlLimit(preparedStatementCacheSqlLimit);
   }
 
+  @Override
+  public MySQLConnectOptions setFlushCoalescingMaxBytes(int flushCoalescingMaxBytes) {
+    return (MySQLConnectOptions) super.setFlushCoalescingMaxBytes(flushCoalescingMaxBytes);
+  }
+
+  @Override
+  public MySQLConnectOptions setFlushCoalescingMaxDelay(long flushCoalescingMaxDelay) {
+    return (MySQLConnectOptions) super.setFlushCoalescingMaxDelay(flushCoalescingMaxDelay);
+  }
+
+  @Override
+  public MySQLConnectOptions setQueryTimeout(long queryTimeout) {
+    return (MySQLConnectOptions) super.setQueryTimeout(queryTimeout);
+  }
+
+  @Override
+  public MySQLConnectOptions setMaxPendingQueueSize(int maxPendingQueueSize) {
+    return (MySQLConnectOptions) super.setMaxPendingQueueSize(maxPendingQueueSize);
+  }
+
+  @Override
+  public MySQLConnectOptions setPreparedStatementCachePolicy(PreparedStatementCachePolicy preparedStatementCachePolicy) {
+    return (MySQLConnectOptions) super.setPreparedStatementCachePolicy(preparedStatementCachePolicy);
+  }
+
+  @Override
+  public MySQLConnectOptions setPrepareThreshold(int prepareThreshold) {
+    return (MySQLConnectOptions) super.setPrepareThreshold(prepareThreshold);
+  }
+
+  @Override
+  public MySQLConnectOptions setPipelinedTransactions(boolean pipelinedTransactions) {
+    return (MySQLConnectOptions) super.setPipelinedTransactions(pipelinedTransactions);
+  }
+
+  @Override
+  @GenIgnore
+  public MySQLConnectOptions setSessionStatements(List<String> sessionStatements) {
+    return (MySQLConnectOptions) super.setSessionStatements(sessionStatements);
+  }
+
+  @Override
+  @GenIgnore
+  public MySQLConnectOptions addSessionStatement(String sessionStatement) {
+    return (MySQLConnectOptions) super.addSessionStatement(sessionStatement);
+  }
+
+  @Override
+  @GenIgnore
+  public MySQLConnectOptions setWarmUpStatements(List<String> warmUpStatements) {
+    return (MySQLConnectOptions) super.setWarmUpStatements(warmUpStatements);
+  }
+
+  @Override
+  @GenIgnore
+  public MySQLConnectOptions addWarmUpStatement(String warmUpStatement) {
+    return (MySQLConnectOptions) super.addWarmUpStatement(warmUpStatement);
+  }
+
+  @Override
+  public MySQLConnectOptions setSlowQueryThreshold(long slowQueryThreshold) {
+    return (MySQLConnectOptions) super.setSlowQueryThreshold(slowQueryThreshold);
+  }
+
+  @Override
+  public MySQLConnectOptions setSlowQuerySampleRate(double slowQuerySampleRate) {
+    return (MySQLConnectOptions) super.setSlowQuerySampleRate(slowQuerySampleRate);
+  }
+
   @Override
   public MySQLConnectOptions setProperties(Map<String, String> properties) {
     return (MySQLConnectOptions) super.setProperties(properties);
@@ -50,6 +50,9 @@ public interface MySQLConnection extends SqlConnection {
   @Override
   MySQLConnection closeHandler(Handler<Void> handler);
 
+  @Override
+  MySQLConnection drainHandler(Handler<Void> handler);
+
   @Override
   MySQLConnection preparedQuery(String sql, Handler<AsyncResult<RowSet>> handler);
 
@@ -60,6 +63,9 @@ public interface MySQLConnection extends SqlConnection {
   @Override
   MySQLConnection query(String sql, Handler<AsyncResult<RowSet>> handler);
 
+  @Override
+  MySQLConnection query(String sql, long timeout, Handler<AsyncResult<RowSet>> handler);
+
   @GenIgnore
   @Override
   <R> MySQLConnection query(String sql, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
@@ -67,6 +73,9 @@ public interface MySQLConnection extends SqlConnection {
   @Override
   MySQLConnection preparedQuery(String sql, Tuple arguments, Handler<AsyncResult<RowSet>> handler);
 
+  @Override
+  MySQLConnection preparedQuery(String sql, Tuple arguments, long timeout, Handler<AsyncResult<RowSet>> handler);
+
   @GenIgnore
   @Override
   <R> MySQLConnection preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
@@ -7,6 +7,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.mysqlclient.impl.MySQLPoolImpl;
+import io.vertx.mysqlclient.impl.MySQLShardedPoolImpl;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.Row;
@@ -59,6 +60,9 @@ public interface MySQLPool extends Pool {
     }
     VertxOptions vertxOptions = new VertxOptions();
     Vertx vertx = Vertx.vertx(vertxOptions);
+    if (poolOptions.getEventLoopSize() > 0) {
+      return new MySQLShardedPoolImpl(vertx, true, connectOptions, poolOptions);
+    }
     return new MySQLPoolImpl(vertx.getOrCreateContext(), true, connectOptions, poolOptions);
   }
 
@@ -66,6 +70,9 @@ public interface MySQLPool extends Pool {
    * Like {@link #pool(MySQLConnectOptions, PoolOptions)} with a specific {@link Vertx} instance.
    */
   static MySQLPool pool(Vertx vertx, MySQLConnectOptions connectOptions, PoolOptions poolOptions) {
+    if (poolOptions.getEventLoopSize() > 0) {
+      return new MySQLShardedPoolImpl(vertx, false, connectOptions, poolOptions);
+    }
     return new MySQLPoolImpl(vertx.getOrCreateContext(), false, connectOptions, poolOptions);
   }
 
@@ -79,6 +86,9 @@ public interface MySQLPool extends Pool {
   @Override
   MySQLPool query(String sql, Handler<AsyncResult<RowSet>> handler);
 
+  @Override
+  MySQLPool query(String sql, long timeout, Handler<AsyncResult<RowSet>> handler);
+
   @GenIgnore
   @Override
   <R> MySQLPool query(String sql, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
@@ -86,6 +96,9 @@ public interface MySQLPool extends Pool {
   @Override
   MySQLPool preparedQuery(String sql, Tuple arguments, Handler<AsyncResult<RowSet>> handler);
 
+  @Override
+  MySQLPool preparedQuery(String sql, Tuple arguments, long timeout, Handler<AsyncResult<RowSet>> handler);
+
   @GenIgnore
   @Override
   <R> MySQLPool preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
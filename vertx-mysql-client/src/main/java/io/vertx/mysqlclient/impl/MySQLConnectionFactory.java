@@ -7,16 +7,24 @@ import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.mysqlclient.MySQLConnectOptions;
 import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.HostSelector;
+import io.vertx.sqlclient.impl.tracing.SlowQueryLog;
+import io.vertx.sqlclient.spi.tracing.QueryTracer;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.impl.PreparedStatementCache;
+import io.vertx.sqlclient.spi.metrics.PreparedStatementCacheMetrics;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 public class MySQLConnectionFactory {
   private final NetClient netClient;
   private final Context context;
   private final boolean registerCloseHook;
-  private final String host;
-  private final int port;
+  private final HostSelector hostSelector;
   private final String username;
   private final String password;
   private final String database;
@@ -25,6 +33,17 @@ public class MySQLConnectionFactory {
   private final boolean cachePreparedStatements;
   private final int preparedStatementCacheSize;
   private final int preparedStatementCacheSqlLimit;
+  private final PreparedStatementCachePolicy preparedStatementCachePolicy;
+  private final int prepareThreshold;
+  private final PreparedStatementCacheMetrics preparedStatementCacheMetrics;
+  private final int flushCoalescingMaxBytes;
+  private final long flushCoalescingMaxDelay;
+  private final long queryTimeout;
+  private final int maxPendingQueueSize;
+  private final boolean pipelinedTransactions;
+  private final QueryTracer<?> tracer;
+  private final List<String> sessionStatements;
+  private final List<String> warmUpStatements;
   private final Closeable hook;
 
   public MySQLConnectionFactory(Context context, boolean registerCloseHook, MySQLConnectOptions options) {
@@ -37,8 +56,7 @@ public class MySQLConnectionFactory {
       context.addCloseHook(hook);
     }
 
-    this.host = options.getHost();
-    this.port = options.getPort();
+    this.hostSelector = HostSelector.create(options);
     this.username = options.getUser();
     this.password = options.getPassword();
     this.database = options.getDatabase();
@@ -55,6 +73,17 @@ public class MySQLConnectionFactory {
     this.cachePreparedStatements = options.getCachePreparedStatements();
     this.preparedStatementCacheSize = options.getPreparedStatementCacheMaxSize();
     this.preparedStatementCacheSqlLimit = options.getPreparedStatementCacheSqlLimit();
+    this.preparedStatementCachePolicy = options.getPreparedStatementCachePolicy();
+    this.prepareThreshold = options.getPrepareThreshold();
+    this.flushCoalescingMaxBytes = options.getFlushCoalescingMaxBytes();
+    this.flushCoalescingMaxDelay = options.getFlushCoalescingMaxDelay();
+    this.queryTimeout = options.getQueryTimeout();
+    this.maxPendingQueueSize = options.getMaxPendingQueueSize();
+    this.pipelinedTransactions = options.getPipelinedTransactions();
+    this.tracer = SlowQueryLog.create(context.owner(), options);
+    this.preparedStatementCacheMetrics = PreparedStatementCache.createMetrics(context.owner(), options);
+    this.sessionStatements = new ArrayList<>(options.getSessionStatements());
+    this.warmUpStatements = new ArrayList<>(options.getWarmUpStatements());
 
     this.netClient = context.owner().createNetClient(netClientOptions);
   }
@@ -73,17 +102,55 @@ public class MySQLConnectionFactory {
   }
 
   public void connect(Handler<AsyncResult<Connection>> handler) {
+    Iterator<HostSelector.Host> hosts = hostSelector.select(System.currentTimeMillis()).iterator();
+    connect(hosts, hosts.next(), ar -> {
+      if (ar.succeeded()) {
+        MySQLSocketConnection conn = (MySQLSocketConnection) ar.result();
+        conn.warmUp(sessionStatements, warmUpStatements, handler);
+      } else {
+        handler.handle(ar);
+      }
+    });
+  }
+
+  /**
+   * Connect to {@code host}, the next {@code hosts} are tried when the connection fails.
+   */
+  private void connect(Iterator<HostSelector.Host> hosts, HostSelector.Host host, Handler<AsyncResult<Connection>> handler) {
+    doConnect(host, ar -> {
+      if (ar.succeeded()) {
+        hostSelector.succeeded(host);
+        handler.handle(ar);
+      } else {
+        hostSelector.failed(host, System.currentTimeMillis());
+        if (hosts.hasNext()) {
+          connect(hosts, hosts.next(), handler);
+        } else {
+          handler.handle(ar);
+        }
+      }
+    });
+  }
+
+  /**
+   * Connect to {@code host} only.
+   */
+  void connect(HostSelector.Host host, Handler<AsyncResult<Connection>> handler) {
+    doConnect(host, handler);
+  }
+
+  private void doConnect(HostSelector.Host host, Handler<AsyncResult<Connection>> handler) {
     Promise<NetSocket> promise = Promise.promise();
     promise.future().setHandler(ar1 -> {
       if (ar1.succeeded()) {
         NetSocketInternal socket = (NetSocketInternal) ar1.result();
-        MySQLSocketConnection conn = new MySQLSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, context);
+        MySQLSocketConnection conn = new MySQLSocketConnection(this, socket, host, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, preparedStatementCachePolicy, prepareThreshold, preparedStatementCacheMetrics, flushCoalescingMaxBytes, flushCoalescingMaxDelay, queryTimeout, maxPendingQueueSize, pipelinedTransactions, tracer, context);
         conn.init();
         conn.sendStartupMessage(username, password, database, properties, handler);
       } else {
         handler.handle(Future.failedFuture(ar1.cause()));
       }
     });
-    netClient.connect(port, host, promise);
+    netClient.connect(host.port(), host.host(), promise);
   }
 }
@@ -18,30 +18,99 @@
 package io.vertx.mysqlclient.impl;
 
 import io.netty.channel.ChannelPipeline;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.impl.NetSocketInternal;
 import io.vertx.mysqlclient.impl.codec.MySQLCodec;
+import io.vertx.mysqlclient.impl.command.ResetConnectionCommand;
+import io.vertx.sqlclient.PropertyKind;
 import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.HostSelector;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.spi.metrics.PreparedStatementCacheMetrics;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.RowDesc;
 import io.vertx.sqlclient.impl.SocketConnectionBase;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.spi.tracing.QueryTracer;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.InitCommand;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class MySQLSocketConnection extends SocketConnectionBase {
 
+  private final MySQLConnectionFactory factory;
+  private final HostSelector.Host host;
   private MySQLCodec codec;
+  public long connectionId;
 
-  public MySQLSocketConnection(NetSocketInternal socket,
+  public MySQLSocketConnection(MySQLConnectionFactory factory,
+                               NetSocketInternal socket,
+                               HostSelector.Host host,
                                boolean cachePreparedStatements,
                                int preparedStatementCacheSize,
                                int preparedStatementCacheSqlLimit,
+                               PreparedStatementCachePolicy preparedStatementCachePolicy,
+                               int prepareThreshold,
+                               PreparedStatementCacheMetrics preparedStatementCacheMetrics,
+                               int flushCoalescingMaxBytes,
+                               long flushCoalescingMaxDelay,
+                               long queryTimeout,
+                               int maxPendingQueueSize,
+                               boolean pipelinedTransactions,
+                               QueryTracer<?> tracer,
                                Context context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, 1, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, preparedStatementCachePolicy, prepareThreshold, preparedStatementCacheMetrics, 1, flushCoalescingMaxBytes, flushCoalescingMaxDelay, queryTimeout, maxPendingQueueSize, pipelinedTransactions, tracer, context);
+    this.factory = factory;
+    this.host = host;
+  }
+
+  @Override
+  public HostSelector.Host getHost() {
+    return host;
+  }
+
+  @Override
+  protected CommandBase<?> createResetCommand() {
+    return new ResetConnectionCommand();
+  }
+
+  @Override
+  protected void cancelRequest(CommandBase<?> cmd, Handler<AsyncResult<Void>> handler) {
+    factory.connect(host, ar -> {
+      if (ar.succeeded()) {
+        Connection conn = ar.result();
+        if (isExecuting(cmd)) {
+          SimpleQueryCommand<Long> kill = new SimpleQueryCommand<>("KILL QUERY " + connectionId, false, Collectors.counting(), new QueryResultHandler<Long>() {
+            @Override
+            public <V> void addProperty(PropertyKind<V> property, V value) {
+            }
+            @Override
+            public void handleResult(int updatedCount, int size, RowDesc desc, Long result) {
+            }
+          });
+          kill.handler = resp -> {
+            conn.close(null);
+            handler.handle(resp.succeeded() ? Future.succeededFuture() : Future.failedFuture(resp.cause()));
+          };
+          conn.schedule(kill);
+        } else {
+          // The query completed in the meantime, a cancellation would abort the next one
+          conn.close(null);
+          handler.handle(Future.succeededFuture());
+        }
+      } else {
+        handler.handle(Future.failedFuture(ar.cause()));
+      }
+    });
   }
 
   void sendStartupMessage(String username, String password, String database, Map<String, String> properties, Handler<? super CommandResponse<Connection>> completionHandler) {
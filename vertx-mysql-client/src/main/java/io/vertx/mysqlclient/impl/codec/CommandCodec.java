@@ -83,12 +83,12 @@ abstract class CommandCodec<R, C extends CommandBase<R>> {
     packetHeader.writeMediumLE(payload.readableBytes());
     packetHeader.writeByte(sequenceId++);
     encoder.chctx.write(packetHeader);
-    encoder.chctx.writeAndFlush(payload);
+    encoder.writePacket(payload);
   }
 
   void sendNonSplitPacket(ByteBuf packet) {
     sequenceId++;
-    encoder.chctx.writeAndFlush(packet);
+    encoder.writePacket(packet);
   }
 
   void handleOkPacketOrErrorPacketPayload(ByteBuf payload) {
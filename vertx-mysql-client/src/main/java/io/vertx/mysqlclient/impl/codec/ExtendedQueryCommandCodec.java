@@ -112,6 +112,6 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
     int lenOfPayload = packet.writerIndex() - packetStartIdx - 4;
     packet.setMediumLE(packetStartIdx, lenOfPayload);
 
-    encoder.chctx.writeAndFlush(packet);
+    encoder.writePacket(packet);
   }
 }
@@ -85,6 +85,7 @@ class InitCommandCodec extends CommandCodec<Connection, InitCommand> {
     }
 
     long connectionId = payload.readUnsignedIntLE();
+    encoder.socketConnection.connectionId = connectionId;
 
     // read first part of scramble
     byte[] scramble = new byte[SCRAMBLE_LENGTH];
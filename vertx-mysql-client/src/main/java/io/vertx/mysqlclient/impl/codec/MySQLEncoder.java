@@ -1,5 +1,6 @@
 package io.vertx.mysqlclient.impl.codec;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
@@ -23,6 +24,7 @@ class MySQLEncoder extends ChannelOutboundHandlerAdapter {
 
   private final ArrayDeque<CommandCodec<?, ?>> inflight;
   ChannelHandlerContext chctx;
+  private boolean encoding;
 
   int clientCapabilitiesFlag = 0x00000000;
   Charset charset;
@@ -58,7 +60,21 @@ class MySQLEncoder extends ChannelOutboundHandlerAdapter {
       chctx.fireChannelRead(resp);
     };
     inflight.add(codec);
-    codec.encode(this);
+    encoding = true;
+    try {
+      codec.encode(this);
+    } finally {
+      encoding = false;
+    }
+  }
+
+  void writePacket(ByteBuf packet) {
+    if (encoding) {
+      // The connection flushes once the pending commands are written
+      chctx.write(packet);
+    } else {
+      chctx.writeAndFlush(packet);
+    }
   }
 
   private CommandCodec<?, ?> wrap(CommandBase<?> cmd) {
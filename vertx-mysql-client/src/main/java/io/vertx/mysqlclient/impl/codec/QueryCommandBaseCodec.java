@@ -23,6 +23,7 @@ import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.impl.RowDesc;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.QueryCommandBase;
+import io.vertx.sqlclient.impl.tracing.QueryTrace;
 
 import java.nio.charset.StandardCharsets;
 import java.util.function.Consumer;
@@ -127,7 +128,14 @@ abstract class QueryCommandBaseCodec<T, C extends QueryCommandBase<T>> extends C
 
   protected void handleSingleRow(ByteBuf payload) {
     // accept a row data
-    decoder.decodeRow(columnDefinitions.length, payload);
+    QueryTrace trace = cmd.trace;
+    if (trace != null) {
+      long start = System.nanoTime();
+      decoder.decodeRow(columnDefinitions.length, payload);
+      trace.rowDecoded(start, System.nanoTime());
+    } else {
+      decoder.decodeRow(columnDefinitions.length, payload);
+    }
   }
 
   protected void handleSingleResultsetDecodingCompleted(int serverStatusFlags, int affectedRows, int lastInsertId) {
@@ -5,6 +5,9 @@ import io.vertx.mysqlclient.impl.MySQLCollation;
 import io.vertx.mysqlclient.impl.MySQLRowImpl;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.impl.RowDecoder;
+import io.vertx.sqlclient.impl.columnar.ColumnVector;
+import io.vertx.sqlclient.impl.columnar.ColumnarCollector;
+import io.vertx.sqlclient.impl.columnar.ColumnarRowSetImpl;
 
 import java.nio.charset.Charset;
 import java.util.function.BiConsumer;
@@ -16,6 +19,7 @@ class RowResultDecoder<C, R> implements RowDecoder {
   private final Collector<Row, C, R> collector;
   private final boolean singleton;
   private final BiConsumer<C, Row> accumulator;
+  private final boolean columnar;
   MySQLRowDesc rowDesc;
 
   private int size;
@@ -26,6 +30,7 @@ class RowResultDecoder<C, R> implements RowDecoder {
     this.collector = collector;
     this.singleton = singleton;
     this.accumulator = collector.accumulator();
+    this.columnar = ColumnarCollector.isColumnar(collector);
     this.rowDesc = rowDesc;
   }
 
@@ -38,16 +43,22 @@ class RowResultDecoder<C, R> implements RowDecoder {
     if (container == null) {
       container = collector.supplier().get();
     }
-    if (singleton) {
+    ColumnarRowSetImpl set = null;
+    Row row = null;
+    if (columnar) {
+      // the values are appended to the columns
+      set = columnar();
+    } else if (singleton) {
+      // flyweight collector: refill the same row
+      row = this.row;
       if (row == null) {
-        row = new MySQLRowImpl(rowDesc);
+        row = this.row = new MySQLRowImpl(rowDesc);
       } else {
         row.clear();
       }
     } else {
       row = new MySQLRowImpl(rowDesc);
     }
-    Row row = new MySQLRowImpl(rowDesc);
     if (rowDesc.dataFormat() == DataFormat.BINARY) {
       // BINARY row decoding
       // 0x00 packet header
@@ -73,7 +84,11 @@ class RowResultDecoder<C, R> implements RowDecoder {
           int columnDefinitionFlags = columnDef.flags();
           decoded = DataTypeCodec.decodeBinary(dataType, charset, columnDefinitionFlags, in);
         }
-        row.addValue(decoded);
+        if (set != null) {
+          set.append(c, decoded);
+        } else {
+          row.addValue(decoded);
+        }
       }
     } else {
       // TEXT row decoding
@@ -88,17 +103,37 @@ class RowResultDecoder<C, R> implements RowDecoder {
           Charset charset = Charset.forName(MySQLCollation.valueOfId(collationId).mappedJavaCharsetName());
           decoded = DataTypeCodec.decodeText(dataType, charset, columnDefinitionFlags, in);
         }
-        row.addValue(decoded);
+        if (set != null) {
+          set.append(c, decoded);
+        } else {
+          row.addValue(decoded);
+        }
       }
     }
-    accumulator.accept(container, row);
+    if (set != null) {
+      set.endRow();
+    } else {
+      accumulator.accept(container, row);
+    }
     size++;
   }
 
+  private ColumnarRowSetImpl columnar() {
+    ColumnarRowSetImpl set = (ColumnarRowSetImpl) container;
+    if (!set.isInitialized()) {
+      // the vectors are created from the first non null value of their column
+      set.init(rowDesc.columnNames(), new ColumnVector[rowDesc.columnNames().size()], () -> new MySQLRowImpl(rowDesc));
+    }
+    return set;
+  }
+
   public R complete() {
     if (container == null) {
       container = collector.supplier().get();
     }
+    if (columnar) {
+      columnar();
+    }
     return collector.finisher().apply(container);
   }
 
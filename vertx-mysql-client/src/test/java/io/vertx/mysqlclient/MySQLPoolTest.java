@@ -5,6 +5,7 @@ import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.Tuple;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -55,4 +56,49 @@ public class MySQLPoolTest extends MySQLTestBase {
     }));
     async.await();
   }
+
+  @Test
+  public void testQueryTimeout(TestContext ctx) {
+    Async async = ctx.async();
+    MySQLPool timeoutPool = MySQLPool.pool(vertx, new MySQLConnectOptions(options).setQueryTimeout(500), new PoolOptions().setMaxSize(1));
+    timeoutPool.query("SELECT SLEEP(10)", ctx.asyncAssertFailure(err -> {
+      // The connection is reused once the query is killed
+      timeoutPool.query("SELECT 1", ctx.asyncAssertSuccess(res -> {
+        ctx.assertEquals(1, res.size());
+        async.complete();
+      }));
+    }));
+    async.await(5000);
+  }
+
+  @Test
+  public void testQueryTimeoutOverride(TestContext ctx) {
+    Async async = ctx.async();
+    MySQLPool pool = MySQLPool.pool(vertx, new MySQLConnectOptions(options), new PoolOptions().setMaxSize(1));
+    pool.query("SELECT SLEEP(10)", 500, ctx.asyncAssertFailure(err -> {
+      // The connection is reused once the query is killed
+      pool.query("SELECT 1", ctx.asyncAssertSuccess(res -> {
+        ctx.assertEquals(1, res.size());
+        async.complete();
+      }));
+    }));
+    async.await(5000);
+  }
+
+  @Test
+  public void testPreparedQueryWithResetOnRelease(TestContext ctx) {
+    // The reset is not pipelined between the preparation and the execution of the statement
+    Async async = ctx.async();
+    MySQLPool resetPool = MySQLPool.pool(vertx, options, new PoolOptions().setMaxSize(1).setResetOnRelease(true));
+    resetPool.query("DROP PROCEDURE IF EXISTS reset_on_release", ctx.asyncAssertSuccess(v1 -> {
+      resetPool.query("CREATE PROCEDURE reset_on_release(IN val INT) BEGIN SET @reset_on_release = val; END", ctx.asyncAssertSuccess(v2 -> {
+        resetPool.preparedQuery("CALL reset_on_release(?)", Tuple.of(1), ctx.asyncAssertSuccess(res1 -> {
+          resetPool.preparedQuery("CALL reset_on_release(?)", Tuple.of(2), ctx.asyncAssertSuccess(res2 -> {
+            resetPool.close();
+            async.complete();
+          }));
+        }));
+      }));
+    }));
+  }
 }
@@ -3,8 +3,10 @@ package io.vertx.mysqlclient;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.FileSystem;
+import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowIterator;
 import io.vertx.sqlclient.Tuple;
@@ -107,6 +109,51 @@ public class MySQLQueryTest extends MySQLTestBase {
     }));
   }
 
+  @Test
+  public void testPrepareThresholdWithDifferentSql(TestContext ctx) {
+    // the statements below the threshold are closed, otherwise they would exceed max_prepared_stmt_count
+    MySQLConnection.connect(vertx, options.setCachePreparedStatements(true)
+      .setPrepareThreshold(2), ctx.asyncAssertSuccess(conn -> {
+      conn.query("SHOW VARIABLES LIKE 'max_prepared_stmt_count'", ctx.asyncAssertSuccess(res1 -> {
+        Row row = res1.iterator().next();
+        int maxPreparedStatementCount = Integer.parseInt(row.getString(1));
+        ctx.assertEquals("max_prepared_stmt_count", row.getString(0));
+        ctx.assertEquals(16382, maxPreparedStatementCount);
+
+        for (int i = 0; i < 20000; i++) {
+          String randomString = UUID.randomUUID().toString();
+          conn.preparedQuery("SELECT '" + randomString + "'", ctx.asyncAssertSuccess(res2 -> {
+            ctx.assertEquals(randomString, res2.iterator().next().getString(0));
+          }));
+        }
+      }));
+    }));
+  }
+
+  @Test
+  public void testTinyLfuRejectedStatementsAreClosed(TestContext ctx) {
+    // the statements rejected or evicted by the cache are closed, otherwise they would exceed max_prepared_stmt_count
+    Async async = ctx.async(20000);
+    MySQLConnection.connect(vertx, options.setCachePreparedStatements(true)
+      .setPreparedStatementCachePolicy(PreparedStatementCachePolicy.TINY_LFU)
+      .setPreparedStatementCacheMaxSize(16), ctx.asyncAssertSuccess(conn -> {
+      conn.query("SHOW VARIABLES LIKE 'max_prepared_stmt_count'", ctx.asyncAssertSuccess(res1 -> {
+        Row row = res1.iterator().next();
+        int maxPreparedStatementCount = Integer.parseInt(row.getString(1));
+        ctx.assertEquals("max_prepared_stmt_count", row.getString(0));
+        ctx.assertEquals(16382, maxPreparedStatementCount);
+
+        for (int i = 0; i < 20000; i++) {
+          String randomString = UUID.randomUUID().toString();
+          conn.preparedQuery("SELECT '" + randomString + "'", ctx.asyncAssertSuccess(res2 -> {
+            ctx.assertEquals(randomString, res2.iterator().next().getString(0));
+            async.countDown();
+          }));
+        }
+      }));
+    }));
+  }
+
   @Test
   public void testCachePreparedStatementWithSameSql(TestContext ctx) {
     MySQLConnection.connect(vertx, options.setCachePreparedStatements(true), ctx.asyncAssertSuccess(conn -> {
@@ -282,6 +329,23 @@ public class MySQLQueryTest extends MySQLTestBase {
     }));
   }
 
+  @Test
+  public void testFlyweightCollector(TestContext ctx) {
+    Collector<Row, ?, Map<Integer, String>> collector = Row.flyweight(Collectors.toMap(
+      row -> row.getInteger("id"),
+      row -> row.getString("Varchar")));
+
+    MySQLConnection.connect(vertx, options, ctx.asyncAssertSuccess(conn -> {
+      conn.query("SELECT * FROM collectorTest", collector, ctx.asyncAssertSuccess(result -> {
+        Map<Integer, String> map = result.value();
+        ctx.assertEquals(2, map.size());
+        ctx.assertEquals("HELLO,WORLD", map.get(1));
+        ctx.assertEquals("hello,world", map.get(2));
+        conn.close();
+      }));
+    }));
+  }
+
   // this class is for verifying the use of Collector API
   private static class DummyObject {
     private int id;
@@ -14,16 +14,31 @@ public class PgConnectOptionsConverter {
   public static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PgConnectOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "oneShotPreparedQueries":
+          if (member.getValue() instanceof Boolean) {
+            obj.setOneShotPreparedQueries((Boolean)member.getValue());
+          }
+          break;
         case "pipeliningLimit":
           if (member.getValue() instanceof Number) {
             obj.setPipeliningLimit(((Number)member.getValue()).intValue());
           }
           break;
+        case "resetStatement":
+          if (member.getValue() instanceof String) {
+            obj.setResetStatement((String)member.getValue());
+          }
+          break;
         case "sslMode":
           if (member.getValue() instanceof String) {
             obj.setSslMode(io.vertx.pgclient.SslMode.valueOf((String)member.getValue()));
           }
           break;
+        case "targetSessionAttrs":
+          if (member.getValue() instanceof String) {
+            obj.setTargetSessionAttrs(io.vertx.pgclient.TargetSessionAttrs.valueOf((String)member.getValue()));
+          }
+          break;
         case "usingDomainSocket":
           break;
       }
@@ -35,10 +50,17 @@ public class PgConnectOptionsConverter {
   }
 
   public static void toJson(PgConnectOptions obj, java.util.Map<String, Object> json) {
+    json.put("oneShotPreparedQueries", obj.getOneShotPreparedQueries());
     json.put("pipeliningLimit", obj.getPipeliningLimit());
+    if (obj.getResetStatement() != null) {
+      json.put("resetStatement", obj.getResetStatement());
+    }
     if (obj.getSslMode() != null) {
       json.put("sslMode", obj.getSslMode().name());
     }
+    if (obj.getTargetSessionAttrs() != null) {
+      json.put("targetSessionAttrs", obj.getTargetSessionAttrs().name());
+    }
     json.put("usingDomainSocket", obj.isUsingDomainSocket());
   }
 }
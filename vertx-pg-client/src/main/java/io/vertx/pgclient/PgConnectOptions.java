@@ -19,13 +19,17 @@ package io.vertx.pgclient;
 
 import io.vertx.pgclient.impl.PgConnectionUriParser;
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.*;
+import io.vertx.sqlclient.HostSelection;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
 import io.vertx.sqlclient.SqlConnectOptions;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -97,6 +101,9 @@ public class PgConnectOptions extends SqlConnectOptions {
   public static final String DEFAULT_PASSWORD = "pass";
   public static final int DEFAULT_PIPELINING_LIMIT = 256;
   public static final SslMode DEFAULT_SSLMODE = SslMode.DISABLE;
+  public static final TargetSessionAttrs DEFAULT_TARGET_SESSION_ATTRS = TargetSessionAttrs.ANY;
+  public static final String DEFAULT_RESET_STATEMENT = "DISCARD ALL";
+  public static final boolean DEFAULT_ONE_SHOT_PREPARED_QUERIES = false;
   public static final Map<String, String> DEFAULT_PROPERTIES;
 
   static {
@@ -111,6 +118,9 @@ public class PgConnectOptions extends SqlConnectOptions {
 
   private int pipeliningLimit;
   private SslMode sslMode;
+  private TargetSessionAttrs targetSessionAttrs;
+  private String resetStatement;
+  private boolean oneShotPreparedQueries;
 
   public PgConnectOptions() {
     super();
@@ -125,6 +135,9 @@ public class PgConnectOptions extends SqlConnectOptions {
     super(other);
     pipeliningLimit = other.pipeliningLimit;
     sslMode = other.sslMode;
+    targetSessionAttrs = other.targetSessionAttrs;
+    resetStatement = other.resetStatement;
+    oneShotPreparedQueries = other.oneShotPreparedQueries;
   }
 
   @Override
@@ -137,6 +150,28 @@ public class PgConnectOptions extends SqlConnectOptions {
     return (PgConnectOptions) super.setPort(port);
   }
 
+  @Override
+  @GenIgnore
+  public PgConnectOptions setHosts(List<String> hosts) {
+    return (PgConnectOptions) super.setHosts(hosts);
+  }
+
+  @Override
+  @GenIgnore
+  public PgConnectOptions addHost(String host) {
+    return (PgConnectOptions) super.addHost(host);
+  }
+
+  @Override
+  public PgConnectOptions setHostSelection(HostSelection hostSelection) {
+    return (PgConnectOptions) super.setHostSelection(hostSelection);
+  }
+
+  @Override
+  public PgConnectOptions setHostBackoff(long hostBackoff) {
+    return (PgConnectOptions) super.setHostBackoff(hostBackoff);
+  }
+
   @Override
   public PgConnectOptions setUser(String user) {
     return (PgConnectOptions) super.setUser(user);
@@ -178,6 +213,75 @@ public class PgConnectOptions extends SqlConnectOptions {
     return (PgConnectOptions) super.setPreparedStatementCacheSqlLimit(preparedStatementCacheSqlLimit);
   }
 
+  @Override
+  public PgConnectOptions setFlushCoalescingMaxBytes(int flushCoalescingMaxBytes) {
+    return (PgConnectOptions) super.setFlushCoalescingMaxBytes(flushCoalescingMaxBytes);
+  }
+
+  @Override
+  public PgConnectOptions setFlushCoalescingMaxDelay(long flushCoalescingMaxDelay) {
+    return (PgConnectOptions) super.setFlushCoalescingMaxDelay(flushCoalescingMaxDelay);
+  }
+
+  @Override
+  public PgConnectOptions setQueryTimeout(long queryTimeout) {
+    return (PgConnectOptions) super.setQueryTimeout(queryTimeout);
+  }
+
+  @Override
+  public PgConnectOptions setMaxPendingQueueSize(int maxPendingQueueSize) {
+    return (PgConnectOptions) super.setMaxPendingQueueSize(maxPendingQueueSize);
+  }
+
+  @Override
+  public PgConnectOptions setPreparedStatementCachePolicy(PreparedStatementCachePolicy preparedStatementCachePolicy) {
+    return (PgConnectOptions) super.setPreparedStatementCachePolicy(preparedStatementCachePolicy);
+  }
+
+  @Override
+  public PgConnectOptions setPrepareThreshold(int prepareThreshold) {
+    return (PgConnectOptions) super.setPrepareThreshold(prepareThreshold);
+  }
+
+  @Override
+  public PgConnectOptions setPipelinedTransactions(boolean pipelinedTransactions) {
+    return (PgConnectOptions) super.setPipelinedTransactions(pipelinedTransactions);
+  }
+
+  @Override
+  @GenIgnore
+  public PgConnectOptions setSessionStatements(List<String> sessionStatements) {
+    return (PgConnectOptions) super.setSessionStatements(sessionStatements);
+  }
+
+  @Override
+  @GenIgnore
+  public PgConnectOptions addSessionStatement(String sessionStatement) {
+    return (PgConnectOptions) super.addSessionStatement(sessionStatement);
+  }
+
+  @Override
+  @GenIgnore
+  public PgConnectOptions setWarmUpStatements(List<String> warmUpStatements) {
+    return (PgConnectOptions) super.setWarmUpStatements(warmUpStatements);
+  }
+
+  @Override
+  @GenIgnore
+  public PgConnectOptions addWarmUpStatement(String warmUpStatement) {
+    return (PgConnectOptions) super.addWarmUpStatement(warmUpStatement);
+  }
+
+  @Override
+  public PgConnectOptions setSlowQueryThreshold(long slowQueryThreshold) {
+    return (PgConnectOptions) super.setSlowQueryThreshold(slowQueryThreshold);
+  }
+
+  @Override
+  public PgConnectOptions setSlowQuerySampleRate(double slowQuerySampleRate) {
+    return (PgConnectOptions) super.setSlowQuerySampleRate(slowQuerySampleRate);
+  }
+
   @Override
   public PgConnectOptions setProperties(Map<String, String> properties) {
     return (PgConnectOptions) super.setProperties(properties);
@@ -206,6 +310,72 @@ public class PgConnectOptions extends SqlConnectOptions {
     return this;
   }
 
+  /**
+   * @return the value of current target session attrs
+   */
+  public TargetSessionAttrs getTargetSessionAttrs() {
+    return targetSessionAttrs;
+  }
+
+  /**
+   * Set {@link TargetSessionAttrs} for the client, this option selects the server a connection is accepted from
+   * when several {@link #getHosts() hosts} are configured.
+   *
+   * @param targetSessionAttrs the value of target session attrs
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setTargetSessionAttrs(TargetSessionAttrs targetSessionAttrs) {
+    checkParameterNonNull(targetSessionAttrs, "Target session attrs can not be null");
+    this.targetSessionAttrs = targetSessionAttrs;
+    return this;
+  }
+
+  /**
+   * @return the statement resetting the session state of a connection released to a pool
+   */
+  public String getResetStatement() {
+    return resetStatement;
+  }
+
+  /**
+   * Set the statement resetting the session state of a connection released to a pool when the pool
+   * {@link io.vertx.sqlclient.PoolOptions#setResetOnRelease(boolean) resets the connections}, a lighter statement
+   * such as {@code RESET ALL} can be used when the sessions only change configuration parameters.
+   *
+   * @param resetStatement the reset statement
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setResetStatement(String resetStatement) {
+    checkParameterNonNull(resetStatement, "Reset statement can not be null");
+    this.resetStatement = resetStatement;
+    return this;
+  }
+
+  /**
+   * @return whether the prepared queries executed once are sent in a single round trip
+   */
+  public boolean getOneShotPreparedQueries() {
+    return oneShotPreparedQueries;
+  }
+
+  /**
+   * Set whether the prepared queries executed once are sent in a single round trip. A {@code preparedQuery} whose
+   * statement is not cached then sends its preparation with its execution instead of waiting for the statement
+   * description: the types of the parameters are inferred from the values of the arguments and the server infers
+   * the type of the {@code null} and {@code String} values. A query with an argument whose type cannot be inferred
+   * is prepared first.
+   * <p/>
+   * The inferred types can differ from the types the server would infer, e.g. an {@code Integer} argument is sent
+   * as an {@code int4} value.
+   *
+   * @param oneShotPreparedQueries whether the one-shot prepared queries are sent in a single round trip
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PgConnectOptions setOneShotPreparedQueries(boolean oneShotPreparedQueries) {
+    this.oneShotPreparedQueries = oneShotPreparedQueries;
+    return this;
+  }
+
   @Override
   public PgConnectOptions setSendBufferSize(int sendBufferSize) {
     return (PgConnectOptions)super.setSendBufferSize(sendBufferSize);
@@ -432,6 +602,9 @@ public class PgConnectOptions extends SqlConnectOptions {
     this.setDatabase(DEFAULT_DATABASE);
     pipeliningLimit = DEFAULT_PIPELINING_LIMIT;
     sslMode = DEFAULT_SSLMODE;
+    targetSessionAttrs = DEFAULT_TARGET_SESSION_ATTRS;
+    resetStatement = DEFAULT_RESET_STATEMENT;
+    oneShotPreparedQueries = DEFAULT_ONE_SHOT_PREPARED_QUERIES;
     this.setProperties(new HashMap<>(DEFAULT_PROPERTIES));
   }
 
@@ -452,6 +625,9 @@ public class PgConnectOptions extends SqlConnectOptions {
 
     if (pipeliningLimit != that.pipeliningLimit) return false;
     if (sslMode != that.sslMode) return false;
+    if (targetSessionAttrs != that.targetSessionAttrs) return false;
+    if (!resetStatement.equals(that.resetStatement)) return false;
+    if (oneShotPreparedQueries != that.oneShotPreparedQueries) return false;
 
     return true;
   }
@@ -461,6 +637,9 @@ public class PgConnectOptions extends SqlConnectOptions {
     int result = super.hashCode();
     result = 31 * result + pipeliningLimit;
     result = 31 * result + sslMode.hashCode();
+    result = 31 * result + targetSessionAttrs.hashCode();
+    result = 31 * result + resetStatement.hashCode();
+    result = 31 * result + (oneShotPreparedQueries ? 1 : 0);
     return result;
   }
 
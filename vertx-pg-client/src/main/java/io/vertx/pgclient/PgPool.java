@@ -18,6 +18,8 @@
 package io.vertx.pgclient;
 
 import io.vertx.pgclient.impl.PgPoolImpl;
+import io.vertx.pgclient.impl.PgReadWritePoolImpl;
+import io.vertx.pgclient.impl.PgShardedPoolImpl;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.SqlResult;
 import io.vertx.sqlclient.RowSet;
@@ -99,6 +101,9 @@ public interface PgPool extends Pool {
       vertxOptions.setPreferNativeTransport(true);
     }
     Vertx vertx = Vertx.vertx(vertxOptions);
+    if (poolOptions.getEventLoopSize() > 0) {
+      return new PgShardedPoolImpl(vertx, true, connectOptions, poolOptions);
+    }
     return new PgPoolImpl(vertx.getOrCreateContext(), true, connectOptions, poolOptions);
   }
 
@@ -106,18 +111,53 @@ public interface PgPool extends Pool {
    * Like {@link #pool(PgConnectOptions, PoolOptions)} with a specific {@link Vertx} instance.
    */
   static PgPool pool(Vertx vertx, PgConnectOptions connectOptions, PoolOptions poolOptions) {
+    if (poolOptions.getEventLoopSize() > 0) {
+      return new PgShardedPoolImpl(vertx, false, connectOptions, poolOptions);
+    }
     return new PgPoolImpl(vertx.getOrCreateContext(), false, connectOptions, poolOptions);
   }
 
+  /**
+   * Create a connection pool splitting the work between a {@code primary} server and {@code replicas} servers, each
+   * server has its own pool configured with {@code poolOptions}.
+   * <p>
+   * The pool sends its queries, connections and transactions to the primary. Use {@link #readOnly()} to send work
+   * to the least loaded replica: statements are not routed on their leading keyword since a {@code SELECT} can
+   * lock rows, create a table or call a function writing data.
+   *
+   * @param vertx the vertx instance
+   * @param primary the options of the primary server
+   * @param replicas the options of the replica servers
+   * @param poolOptions the options of the pool of each server
+   * @return the connection pool
+   */
+  static PgPool pool(Vertx vertx, PgConnectOptions primary, List<PgConnectOptions> replicas, PoolOptions poolOptions) {
+    return new PgReadWritePoolImpl(vertx, false, primary, replicas, poolOptions);
+  }
+
+  /**
+   * Return a view of this pool marking its work as read-only: for a pool created with replicas the queries,
+   * connections and transactions of the view are served by the replicas, otherwise this pool is returned.
+   * <p>
+   * Closing the view closes the pool.
+   *
+   * @return the read-only view
+   */
+  default PgPool readOnly() {
+    return this;
+  }
+
   PgPool preparedQuery(String sql, Handler<AsyncResult<RowSet>> handler);
 
   @GenIgnore
   <R> PgPool preparedQuery(String sql, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
   PgPool query(String sql, Handler<AsyncResult<RowSet>> handler);
+  PgPool query(String sql, long timeout, Handler<AsyncResult<RowSet>> handler);
 
   @GenIgnore
   <R> PgPool query(String sql, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
   PgPool preparedQuery(String sql, Tuple arguments, Handler<AsyncResult<RowSet>> handler);
+  PgPool preparedQuery(String sql, Tuple arguments, long timeout, Handler<AsyncResult<RowSet>> handler);
 
   @GenIgnore
   <R> PgPool preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2018 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient;
+
+/**
+ * The target_session_attrs parameter selects the server a connection is accepted from when several hosts are
+ * configured, the session is checked once the connection is established.
+ * See more information in <a href="https://www.postgresql.org/docs/current/libpq-connect.html#LIBPQ-CONNECT-TARGET-SESSION-ATTRS">Parameter Key Words</a>.
+ */
+public enum TargetSessionAttrs {
+
+  /**
+   * any successful connection is acceptable.
+   */
+  ANY("any"),
+
+  /**
+   * the session must accept read-write transactions by default, i.e. the server is a primary.
+   */
+  READ_WRITE("read-write"),
+
+  /**
+   * the session must not accept read-write transactions by default, i.e. the server is a standby.
+   */
+  READ_ONLY("read-only"),
+
+  /**
+   * first try to find a session accepting read-write transactions; if there is none, any successful connection is acceptable.
+   */
+  PREFER_READ_WRITE("prefer-read-write");
+
+  public static final TargetSessionAttrs[] VALUES = TargetSessionAttrs.values();
+
+  public final String value;
+
+  TargetSessionAttrs(String value) {
+    this.value = value;
+  }
+
+  public static TargetSessionAttrs of(String value) {
+    for (TargetSessionAttrs targetSessionAttrs : VALUES) {
+      if (targetSessionAttrs.value.equalsIgnoreCase(value)) {
+        return targetSessionAttrs;
+      }
+    }
+
+    throw new IllegalArgumentException("Could not find an appropriate target session attrs for the value [" + value + "].");
+  }
+}
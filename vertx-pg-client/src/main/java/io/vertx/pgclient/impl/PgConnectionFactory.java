@@ -19,14 +19,30 @@ package io.vertx.pgclient.impl;
 
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.SslMode;
+import io.vertx.pgclient.TargetSessionAttrs;
 import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.HostSelector;
+import io.vertx.sqlclient.impl.tracing.SlowQueryLog;
+import io.vertx.sqlclient.spi.tracing.QueryTracer;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.impl.PreparedStatementCache;
+import io.vertx.sqlclient.spi.metrics.PreparedStatementCacheMetrics;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.PropertyKind;
 import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 import io.vertx.core.*;
 import io.vertx.core.impl.NetSocketInternal;
+import io.vertx.core.impl.NoStackTraceThrowable;
 import io.vertx.core.net.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -36,8 +52,8 @@ class PgConnectionFactory {
   private final NetClient client;
   private final Context ctx;
   private final boolean registerCloseHook;
-  private final String host;
-  private final int port;
+  private final HostSelector hostSelector;
+  private final TargetSessionAttrs targetSessionAttrs;
   private final SslMode sslMode;
   private final TrustOptions trustOptions;
   private final String hostnameVerificationAlgorithm;
@@ -48,8 +64,20 @@ class PgConnectionFactory {
   private final boolean cachePreparedStatements;
   private final int preparedStatementCacheSize;
   private final int preparedStatementCacheSqlLimit;
+  private final PreparedStatementCachePolicy preparedStatementCachePolicy;
+  private final int prepareThreshold;
+  private final PreparedStatementCacheMetrics preparedStatementCacheMetrics;
   private final int pipeliningLimit;
-  private final boolean isUsingDomainSocket;
+  private final int flushCoalescingMaxBytes;
+  private final long flushCoalescingMaxDelay;
+  private final long queryTimeout;
+  private final int maxPendingQueueSize;
+  private final boolean pipelinedTransactions;
+  private final QueryTracer<?> tracer;
+  private final String resetStatement;
+  private final boolean oneShotPreparedQueries;
+  private final List<String> sessionStatements;
+  private final List<String> warmUpStatements;
   private final Closeable hook;
 
   PgConnectionFactory(Context context,
@@ -72,17 +100,29 @@ class PgConnectionFactory {
     this.sslMode = options.getSslMode();
     this.hostnameVerificationAlgorithm = netClientOptions.getHostnameVerificationAlgorithm();
     this.trustOptions = netClientOptions.getTrustOptions();
-    this.host = options.getHost();
-    this.port = options.getPort();
+    this.hostSelector = HostSelector.create(options);
+    this.targetSessionAttrs = options.getTargetSessionAttrs();
     this.database = options.getDatabase();
     this.username = options.getUser();
     this.password = options.getPassword();
     this.properties = new HashMap<>(options.getProperties());
     this.cachePreparedStatements = options.getCachePreparedStatements();
     this.pipeliningLimit = options.getPipeliningLimit();
+    this.flushCoalescingMaxBytes = options.getFlushCoalescingMaxBytes();
+    this.flushCoalescingMaxDelay = options.getFlushCoalescingMaxDelay();
+    this.queryTimeout = options.getQueryTimeout();
+    this.maxPendingQueueSize = options.getMaxPendingQueueSize();
+    this.pipelinedTransactions = options.getPipelinedTransactions();
+    this.tracer = SlowQueryLog.create(ctx.owner(), options);
+    this.preparedStatementCacheMetrics = PreparedStatementCache.createMetrics(ctx.owner(), options);
+    this.resetStatement = options.getResetStatement();
+    this.oneShotPreparedQueries = options.getOneShotPreparedQueries();
+    this.sessionStatements = new ArrayList<>(options.getSessionStatements());
+    this.warmUpStatements = new ArrayList<>(options.getWarmUpStatements());
     this.preparedStatementCacheSize = options.getPreparedStatementCacheMaxSize();
     this.preparedStatementCacheSqlLimit = options.getPreparedStatementCacheSqlLimit();
-    this.isUsingDomainSocket = options.isUsingDomainSocket();
+    this.preparedStatementCachePolicy = options.getPreparedStatementCachePolicy();
+    this.prepareThreshold = options.getPrepareThreshold();
 
     this.client = context.owner().createNetClient(netClientOptions);
   }
@@ -101,37 +141,122 @@ class PgConnectionFactory {
   }
 
   void connectAndInit(Handler<AsyncResult<Connection>> completionHandler) {
-    connect(ar -> {
+    Iterator<HostSelector.Host> hosts = hostSelector.select(System.currentTimeMillis()).iterator();
+    connectAndInit(hosts, null, null, ar -> {
       if (ar.succeeded()) {
-        PgSocketConnection conn = ar.result();
+        PgSocketConnection conn = (PgSocketConnection) ar.result();
+        conn.warmUp(sessionStatements, warmUpStatements, completionHandler);
+      } else {
+        completionHandler.handle(ar);
+      }
+    });
+  }
+
+  /**
+   * Try the {@code hosts} until a connection matches the target session attrs.
+   *
+   * @param fallback the first connection that does not match the prefer-read-write target session attrs
+   * @param failure the last failure
+   */
+  private void connectAndInit(Iterator<HostSelector.Host> hosts,
+                              PgSocketConnection fallback,
+                              Throwable failure,
+                              Handler<AsyncResult<Connection>> completionHandler) {
+    if (!hosts.hasNext()) {
+      if (fallback != null) {
+        completionHandler.handle(Future.succeededFuture(fallback));
+      } else {
+        completionHandler.handle(CommandResponse.failure(failure));
+      }
+      return;
+    }
+    HostSelector.Host host = hosts.next();
+    connect(host, ar1 -> {
+      if (ar1.succeeded()) {
+        PgSocketConnection conn = ar1.result();
         conn.init();
-        conn.sendStartupMessage(username, password, database, properties, completionHandler);
+        conn.sendStartupMessage(username, password, database, properties, ar2 -> {
+          if (ar2.succeeded()) {
+            hostSelector.succeeded(host);
+            checkTargetSessionAttrs(conn, ar3 -> {
+              if (ar3.succeeded() && ar3.result()) {
+                if (fallback != null) {
+                  fallback.close(null);
+                }
+                completionHandler.handle(Future.succeededFuture(conn));
+              } else if (ar3.succeeded() && targetSessionAttrs == TargetSessionAttrs.PREFER_READ_WRITE && fallback == null) {
+                connectAndInit(hosts, conn, failure, completionHandler);
+              } else {
+                conn.close(null);
+                Throwable cause = ar3.failed() ? ar3.cause() : new NoStackTraceThrowable("Host " + host + " does not match the target session attrs " + targetSessionAttrs.value);
+                connectAndInit(hosts, fallback, cause, completionHandler);
+              }
+            });
+          } else {
+            hostSelector.failed(host, System.currentTimeMillis());
+            connectAndInit(hosts, fallback, ar2.cause(), completionHandler);
+          }
+        });
       } else {
-        completionHandler.handle(CommandResponse.failure(ar.cause()));
+        hostSelector.failed(host, System.currentTimeMillis());
+        connectAndInit(hosts, fallback, ar1.cause(), completionHandler);
       }
     });
   }
 
-  void connect(Handler<AsyncResult<PgSocketConnection>> handler) {
+  /**
+   * Check whether the session of {@code conn} matches the target session attrs.
+   */
+  private void checkTargetSessionAttrs(PgSocketConnection conn, Handler<AsyncResult<Boolean>> handler) {
+    if (targetSessionAttrs == TargetSessionAttrs.ANY) {
+      handler.handle(Future.succeededFuture(true));
+      return;
+    }
+    String[] readOnly = new String[1];
+    SimpleQueryCommand<String> cmd = new SimpleQueryCommand<>(
+      "SHOW transaction_read_only",
+      true,
+      Collectors.mapping(row -> row.getString(0), Collectors.joining()),
+      new QueryResultHandler<String>() {
+        @Override
+        public <V> void addProperty(PropertyKind<V> property, V value) {
+        }
+        @Override
+        public void handleResult(int updatedCount, int size, RowDesc desc, String result) {
+          readOnly[0] = result;
+        }
+      });
+    cmd.handler = ar -> {
+      if (ar.succeeded()) {
+        boolean expected = targetSessionAttrs == TargetSessionAttrs.READ_ONLY;
+        handler.handle(Future.succeededFuture(expected == "on".equals(readOnly[0])));
+      } else {
+        handler.handle(Future.failedFuture(ar.cause()));
+      }
+    };
+    conn.schedule(cmd);
+  }
+
+  void connect(HostSelector.Host host, Handler<AsyncResult<PgSocketConnection>> handler) {
     switch (sslMode) {
       case DISABLE:
-        doConnect(false, handler);
+        doConnect(host, false, handler);
         break;
       case ALLOW:
-        doConnect(false, ar -> {
+        doConnect(host, false, ar -> {
           if (ar.succeeded()) {
             handler.handle(Future.succeededFuture(ar.result()));
           } else {
-            doConnect(true, handler);
+            doConnect(host, true, handler);
           }
         });
         break;
       case PREFER:
-        doConnect(true, ar -> {
+        doConnect(host, true, ar -> {
           if (ar.succeeded()) {
             handler.handle(Future.succeededFuture(ar.result()));
           } else {
-            doConnect(false, handler);
+            doConnect(host, false, handler);
           }
         });
         break;
@@ -146,29 +271,30 @@ class PgConnectionFactory {
           return;
         }
       case REQUIRE:
-        doConnect(true, handler);
+        doConnect(host, true, handler);
         break;
       default:
         throw new IllegalArgumentException("Unsupported SSL mode");
     }
   }
 
-  private void doConnect(boolean ssl, Handler<AsyncResult<PgSocketConnection>> handler) {
+  private void doConnect(HostSelector.Host host, boolean ssl, Handler<AsyncResult<PgSocketConnection>> handler) {
     if (Vertx.currentContext() != ctx) {
       throw new IllegalStateException();
     }
+    boolean isUsingDomainSocket = host.host().startsWith("/");
     SocketAddress socketAddress;
     if (!isUsingDomainSocket) {
-      socketAddress = SocketAddress.inetSocketAddress(port, host);
+      socketAddress = SocketAddress.inetSocketAddress(host.port(), host.host());
     } else {
-      socketAddress = SocketAddress.domainSocketAddress(host + "/.s.PGSQL." + port);
+      socketAddress = SocketAddress.domainSocketAddress(host.host() + "/.s.PGSQL." + host.port());
     }
 
     Promise<NetSocket> promise = Promise.promise();
     promise.future().setHandler(ar -> {
       if (ar.succeeded()) {
         NetSocketInternal socket = (NetSocketInternal) ar.result();
-        PgSocketConnection conn = newSocketConnection(socket);
+        PgSocketConnection conn = newSocketConnection(socket, host);
 
         if (ssl && !isUsingDomainSocket) {
           // upgrade connection to SSL if needed
@@ -195,7 +321,7 @@ class PgConnectionFactory {
     }
   }
 
-  private PgSocketConnection newSocketConnection(NetSocketInternal socket) {
-    return new PgSocketConnection(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, pipeliningLimit, ctx);
+  private PgSocketConnection newSocketConnection(NetSocketInternal socket, HostSelector.Host host) {
+    return new PgSocketConnection(this, socket, host, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, preparedStatementCachePolicy, prepareThreshold, preparedStatementCacheMetrics, pipeliningLimit, flushCoalescingMaxBytes, flushCoalescingMaxDelay, queryTimeout, maxPendingQueueSize, pipelinedTransactions, tracer, resetStatement, oneShotPreparedQueries, ctx);
   }
 }
@@ -91,7 +91,7 @@ public class PgConnectionImpl extends SqlConnectionImpl<PgConnectionImpl> implem
   public PgConnection cancelRequest(Handler<AsyncResult<Void>> handler) {
     Context current = Vertx.currentContext();
     if (current == context) {
-      factory.connect(ar -> {
+      factory.connect(conn.getHost(), ar -> {
         if (ar.succeeded()) {
           PgSocketConnection conn = ar.result();
           conn.sendCancelRequestMessage(this.processId(), this.secretKey(), handler);
@@ -17,6 +17,7 @@
 package io.vertx.pgclient.impl;
 
 import io.vertx.pgclient.SslMode;
+import io.vertx.pgclient.TargetSessionAttrs;
 import io.vertx.core.json.JsonObject;
 
 import java.io.UnsupportedEncodingException;
@@ -176,6 +177,9 @@ public class PgConnectionUriParser {
           case "sslmode":
             configuration.put("sslMode", SslMode.of(value));
             break;
+          case "target_session_attrs":
+            configuration.put("targetSessionAttrs", TargetSessionAttrs.of(value));
+            break;
           case "application_name":
             properties.put("application_name", value);
             break;
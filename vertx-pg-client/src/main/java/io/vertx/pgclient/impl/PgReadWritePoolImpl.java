@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.pgclient.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.PgPool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.impl.PoolBase;
+import io.vertx.sqlclient.impl.ReadWritePoolBase;
+
+import java.util.List;
+
+/**
+ * A {@link PgPool} splitting the work between a primary server and replica servers.
+ */
+public class PgReadWritePoolImpl extends ReadWritePoolBase<PgReadWritePoolImpl> implements PgPool {
+
+  private final PgReadWritePoolImpl readOnly;
+
+  public PgReadWritePoolImpl(Vertx vertx,
+                             boolean closeVertx,
+                             PgConnectOptions primary,
+                             List<PgConnectOptions> replicas,
+                             PoolOptions poolOptions) {
+    super(vertx, closeVertx, pool(vertx, primary, poolOptions), replicas.stream()
+      .map(options -> pool(vertx, options, poolOptions))
+      .toArray(PoolBase[]::new));
+    this.readOnly = new PgReadWritePoolImpl(this);
+  }
+
+  private PgReadWritePoolImpl(PgReadWritePoolImpl pool) {
+    super(pool);
+    this.readOnly = this;
+  }
+
+  private static PoolBase<?> pool(Vertx vertx, PgConnectOptions connectOptions, PoolOptions poolOptions) {
+    Context context = vertx.getOrCreateContext();
+    return new PgPoolImpl(context, false, connectOptions, poolOptions);
+  }
+
+  @Override
+  public PgPool readOnly() {
+    return readOnly;
+  }
+}
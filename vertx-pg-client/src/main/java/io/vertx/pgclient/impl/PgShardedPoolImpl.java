@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.pgclient.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.PgPool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.impl.ShardedPoolBase;
+
+/**
+ * A {@link PgPool} sharded on {@link PoolOptions#getEventLoopSize()} event loops.
+ */
+public class PgShardedPoolImpl extends ShardedPoolBase<PgShardedPoolImpl> implements PgPool {
+
+  public PgShardedPoolImpl(Vertx vertx, boolean closeVertx, PgConnectOptions connectOptions, PoolOptions poolOptions) {
+    super(vertx, closeVertx, poolOptions, (context, options) -> new PgPoolImpl(context, false, connectOptions, options));
+  }
+}
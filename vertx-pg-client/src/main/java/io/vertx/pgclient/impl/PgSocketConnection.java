@@ -21,31 +21,64 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.DecoderException;
 import io.vertx.pgclient.impl.codec.PgCodec;
 import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.HostSelector;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.impl.PreparedStatement;
+import io.vertx.sqlclient.spi.metrics.PreparedStatementCacheMetrics;
 import io.vertx.sqlclient.impl.SocketConnectionBase;
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.RowDesc;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.spi.tracing.QueryTracer;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.InitCommand;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.impl.NetSocketInternal;
 
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
 public class PgSocketConnection extends SocketConnectionBase {
 
+  private final PgConnectionFactory factory;
+  private final HostSelector.Host host;
+  private final String resetStatement;
+  private final boolean oneShotPreparedQueries;
   private PgCodec codec;
   public int processId;
   public int secretKey;
 
-  public PgSocketConnection(NetSocketInternal socket,
+  public PgSocketConnection(PgConnectionFactory factory,
+                            NetSocketInternal socket,
+                            HostSelector.Host host,
                             boolean cachePreparedStatements,
                             int preparedStatementCacheSize,
                             int preparedStatementCacheSqlLimit,
+                            PreparedStatementCachePolicy preparedStatementCachePolicy,
+                            int prepareThreshold,
+                            PreparedStatementCacheMetrics preparedStatementCacheMetrics,
                             int pipeliningLimit,
+                            int flushCoalescingMaxBytes,
+                            long flushCoalescingMaxDelay,
+                            long queryTimeout,
+                            int maxPendingQueueSize,
+                            boolean pipelinedTransactions,
+                            QueryTracer<?> tracer,
+                            String resetStatement,
+                            boolean oneShotPreparedQueries,
                             Context context) {
-    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, pipeliningLimit, context);
+    super(socket, cachePreparedStatements, preparedStatementCacheSize, preparedStatementCacheSqlLimit, preparedStatementCachePolicy, prepareThreshold, preparedStatementCacheMetrics, pipeliningLimit, flushCoalescingMaxBytes, flushCoalescingMaxDelay, queryTimeout, maxPendingQueueSize, pipelinedTransactions, tracer, context);
+    this.factory = factory;
+    this.host = host;
+    this.resetStatement = resetStatement;
+    this.oneShotPreparedQueries = oneShotPreparedQueries;
   }
 
   @Override
@@ -62,6 +95,59 @@ public class PgSocketConnection extends SocketConnectionBase {
     schedule(cmd);
   }
 
+  @Override
+  protected CommandBase<?> createResetCommand() {
+    return new SimpleQueryCommand<>(resetStatement, false, Collectors.counting(), new QueryResultHandler<Long>() {
+      @Override
+      public <V> void addProperty(PropertyKind<V> property, V value) {
+      }
+      @Override
+      public void handleResult(int updatedCount, int size, RowDesc desc, Long result) {
+      }
+    });
+  }
+
+  @Override
+  protected int unflushedBytes() {
+    // The encoder buffers the commands until the flush
+    return codec.unflushedBytes();
+  }
+
+  @Override
+  protected PreparedStatement prepareOneShot(String sql, List<Object> arguments) {
+    return oneShotPreparedQueries ? codec.prepareOneShot(sql, arguments) : null;
+  }
+
+  @Override
+  protected boolean resetDeallocatesStatements() {
+    String statement = resetStatement.toUpperCase();
+    return statement.contains("DISCARD ALL") || statement.contains("DEALLOCATE");
+  }
+
+  @Override
+  protected boolean closeUncachedStatements() {
+    // The statements that are not cached are unnamed
+    return false;
+  }
+
+  @Override
+  protected void cancelRequest(CommandBase<?> cmd, Handler<AsyncResult<Void>> handler) {
+    factory.connect(host, ar -> {
+      if (ar.succeeded()) {
+        PgSocketConnection conn = ar.result();
+        if (isExecuting(cmd)) {
+          conn.sendCancelRequestMessage(processId, secretKey, handler);
+        } else {
+          // The query completed in the meantime, a cancellation would abort the next one
+          conn.socket.close();
+          handler.handle(Future.succeededFuture());
+        }
+      } else {
+        handler.handle(Future.failedFuture(ar.cause()));
+      }
+    });
+  }
+
   void sendCancelRequestMessage(int processId, int secretKey, Handler<AsyncResult<Void>> handler) {
     Buffer buffer = Buffer.buffer(16);
     buffer.appendInt(16);
@@ -94,6 +180,11 @@ public class PgSocketConnection extends SocketConnectionBase {
     return secretKey;
   }
 
+  @Override
+  public HostSelector.Host getHost() {
+    return host;
+  }
+
   void upgradeToSSLConnection(Handler<AsyncResult<Void>> completionHandler) {
     ChannelPipeline pipeline = socket.channelHandlerContext().pipeline();
     Promise<Void> upgradePromise = Promise.promise();
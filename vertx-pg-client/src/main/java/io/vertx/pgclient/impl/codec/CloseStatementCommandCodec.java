@@ -17,7 +17,6 @@
 package io.vertx.pgclient.impl.codec;
 
 import io.vertx.sqlclient.impl.command.CloseStatementCommand;
-import io.vertx.sqlclient.impl.command.CommandResponse;
 
 class CloseStatementCommandCodec extends PgCommandCodec<Void, CloseStatementCommand> {
 
@@ -27,14 +26,21 @@ class CloseStatementCommandCodec extends PgCommandCodec<Void, CloseStatementComm
 
   @Override
   public void encode(PgEncoder out) {
-    /*
-    if (conn.psCache == null) {
-      conn.writeMessage(new Close().setStatement(statement));
-      conn.writeMessage(Sync.INSTANCE);
-    } else {
+    PgPreparedStatement statement = (PgPreparedStatement) cmd.statement();
+    if (statement.bind.statement != 0) {
+      out.writeCloseStatement(statement.bind.statement);
     }
-    */
-    CommandResponse<Void> resp = CommandResponse.success(null);
-    completionHandler.handle(resp);
+    // The unnamed statement is replaced by the next unnamed statement, the Sync completes the command in order
+    out.writeSync();
+  }
+
+  @Override
+  public void handleCloseComplete() {
+    // Expected
+  }
+
+  @Override
+  public void handleErrorResponse(ErrorResponse errorResponse) {
+    failure = errorResponse.toException();
   }
 }
@@ -32,6 +32,8 @@ import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 import java.time.*;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -153,11 +155,34 @@ enum DataType {
     }
   }
 
+  /**
+   * Infer the type of a parameter {@code value} sent without the description of its statement.
+   *
+   * @return the type, {@link #UNKNOWN} when the server infers the type of a {@code null} or {@code String} value
+   *         or {@code null} when the type cannot be inferred
+   */
+  static DataType inferParameterType(Object value) {
+    if (value == null || value instanceof String) {
+      return UNKNOWN;
+    } else if (value instanceof Buffer) {
+      return BYTEA;
+    } else {
+      return parameterTypes.get(value.getClass());
+    }
+  }
+
   private static IntObjectMap<DataType> oidToDataType = new IntObjectHashMap<>();
+  private static Map<Class<?>, DataType> parameterTypes = new HashMap<>();
 
   static {
     for (DataType dataType : values()) {
       oidToDataType.put(dataType.id, dataType);
     }
+    for (DataType dataType : new DataType[] {
+      BOOL, BOOL_ARRAY, INT2, INT2_ARRAY, INT4, INT4_ARRAY, INT8, INT8_ARRAY, FLOAT4, FLOAT4_ARRAY, FLOAT8, FLOAT8_ARRAY,
+      DATE, DATE_ARRAY, TIME, TIME_ARRAY, TIMETZ, TIMETZ_ARRAY, TIMESTAMP, TIMESTAMP_ARRAY, TIMESTAMPTZ, TIMESTAMPTZ_ARRAY,
+      INTERVAL, INTERVAL_ARRAY, UUID, UUID_ARRAY, POINT, LINE, LSEG, BOX, PATH, POLYGON, CIRCLE}) {
+      parameterTypes.put(dataType.encodingType, dataType);
+    }
   }
 }
@@ -26,6 +26,13 @@ import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.data.Numeric;
 import io.vertx.pgclient.data.*;
 import io.vertx.pgclient.impl.util.UTF8StringEndDetector;
+import io.vertx.sqlclient.impl.columnar.BooleanVector;
+import io.vertx.sqlclient.impl.columnar.ColumnVector;
+import io.vertx.sqlclient.impl.columnar.DoubleVector;
+import io.vertx.sqlclient.impl.columnar.IntVector;
+import io.vertx.sqlclient.impl.columnar.LongVector;
+import io.vertx.sqlclient.impl.columnar.ObjectVector;
+import io.vertx.sqlclient.impl.columnar.TimestampVector;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -83,6 +90,7 @@ class DataTypeCodec {
   private static final Double[] empty_double_array = new Double[0];
   private static final LocalDate LOCAL_DATE_EPOCH = LocalDate.of(2000, 1, 1);
   private static final LocalDateTime LOCAL_DATE_TIME_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0, 0);
+  private static final long LOCAL_DATE_TIME_EPOCH_MICROS = TimestampVector.toMicros(LOCAL_DATE_TIME_EPOCH);
   private static final OffsetDateTime OFFSET_DATE_TIME_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0, 0).atOffset(ZoneOffset.UTC);
 
   // Sentinel used when an object is refused by the data type
@@ -346,6 +354,50 @@ class DataTypeCodec {
     }
   }
 
+  /**
+   * @return the vector storing the values of the {@code id} data type in a columnar row set
+   */
+  static ColumnVector vector(DataType id) {
+    switch (id) {
+      case INT4:
+        return new IntVector();
+      case INT8:
+        return new LongVector();
+      case FLOAT8:
+        return new DoubleVector();
+      case BOOL:
+        return new BooleanVector();
+      case TIMESTAMP:
+        return new TimestampVector();
+      default:
+        return new ObjectVector();
+    }
+  }
+
+  /**
+   * @return the decoder appending the {@code id} data type values sent in the given {@code format} to the vector
+   *         created by {@link #vector(DataType)}, the binary primitive values are not boxed
+   */
+  static VectorDecoder vectorDecoder(DataType id, DataFormat format) {
+    if (format == DataFormat.BINARY) {
+      switch (id) {
+        case INT4:
+          return (vector, index, len, buff) -> ((IntVector) vector).appendInt(buff.getInt(index));
+        case INT8:
+          return (vector, index, len, buff) -> ((LongVector) vector).appendLong(buff.getLong(index));
+        case FLOAT8:
+          return (vector, index, len, buff) -> ((DoubleVector) vector).appendDouble(buff.getDouble(index));
+        case BOOL:
+          return (vector, index, len, buff) -> ((BooleanVector) vector).appendBoolean(buff.getBoolean(index));
+        case TIMESTAMP:
+          return (vector, index, len, buff) -> ((TimestampVector) vector).appendLong(buff.getLong(index) + LOCAL_DATE_TIME_EPOCH_MICROS);
+        default:
+          return (vector, index, len, buff) -> vector.append(decodeBinary(id, index, len, buff));
+      }
+    }
+    return (vector, index, len, buff) -> vector.append(decodeText(id, index, len, buff));
+  }
+
   public static Object decodeBinary(DataType id, int index, int len, ByteBuf buff) {
     switch (id) {
       case BOOL:
@@ -31,6 +31,11 @@ abstract class ExtendedQueryCommandBaseCodec<R, C extends ExtendedQueryCommandBa
     decoder = new RowResultDecoder<>(cmd.collector(), cmd.isSingleton(), rowDescription);
   }
 
+  @Override
+  void handleNoData() {
+    // Response to the Describe of a one-shot statement
+  }
+
   @Override
   void handleParseComplete() {
     // Response to Parse
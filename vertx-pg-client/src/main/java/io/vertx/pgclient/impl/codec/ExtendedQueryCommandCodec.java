@@ -33,10 +33,16 @@ class ExtendedQueryCommandCodec<R> extends ExtendedQueryCommandBaseCodec<R, Exte
       encoder.writeSync();
     } else {
       PgPreparedStatement ps = (PgPreparedStatement) cmd.preparedStatement();
-      if (ps.bind.statement == 0) {
+      if (ps.oneShot) {
+        // Parse, bind and describe the statement in the same round trip than its execution
+        encoder.writeParse(new Parse(ps.sql(), 0, ps.bind.paramTypes));
+      } else if (ps.bind.statement == 0) {
         encoder.writeParse(new Parse(ps.sql()));
       }
       encoder.writeBind(ps.bind, cmd.cursorId(), (List<Object>) cmd.params());
+      if (ps.oneShot) {
+        encoder.writeDescribe(new Describe(0, cmd.cursorId() != null ? cmd.cursorId() : ""));
+      }
       encoder.writeExecute(cmd.cursorId(), cmd.fetch());
       encoder.writeSync();
     }
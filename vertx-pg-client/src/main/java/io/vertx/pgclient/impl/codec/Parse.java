@@ -24,14 +24,19 @@ final class Parse {
 
   final String query;
   final long statement;
+  final DataType[] paramTypes;
 
-  Parse(String query, long statement) {
+  Parse(String query, long statement, DataType[] paramTypes) {
     this.query = query;
     this.statement = statement;
+    this.paramTypes = paramTypes;
+  }
+
+  Parse(String query, long statement) {
+    this(query, statement, null);
   }
 
   Parse(String query) {
-    this.query = query;
-    this.statement = 0;
+    this(query, 0);
   }
 }
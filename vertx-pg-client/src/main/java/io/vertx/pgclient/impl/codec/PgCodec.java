@@ -18,23 +18,41 @@ package io.vertx.pgclient.impl.codec;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.CombinedChannelDuplexHandler;
+import io.vertx.sqlclient.impl.PreparedStatement;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.core.VertxException;
 
 import java.util.ArrayDeque;
 import java.util.Iterator;
+import java.util.List;
 
 public class PgCodec extends CombinedChannelDuplexHandler<PgDecoder, PgEncoder> {
 
   private final ArrayDeque<PgCommandCodec<?, ?>> inflight = new ArrayDeque<>();
+  private final PgEncoder encoder;
 
   public PgCodec() {
     PgDecoder decoder = new PgDecoder(inflight);
-    PgEncoder encoder = new PgEncoder(decoder, inflight);
+    encoder = new PgEncoder(decoder, inflight);
     init(decoder, encoder);
   }
 
+  /**
+   * @return the number of bytes encoded and not yet flushed
+   */
+  public int unflushedBytes() {
+    return encoder.unflushedBytes();
+  }
+
+  /**
+   * @return the statement of a query executed once or {@code null} when the statement must be prepared first
+   * @see PgPreparedStatement#oneShot(String, List)
+   */
+  public PreparedStatement prepareOneShot(String sql, List<Object> arguments) {
+    return PgPreparedStatement.oneShot(sql, arguments);
+  }
+
   @Override
   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
     fail(ctx, cause);
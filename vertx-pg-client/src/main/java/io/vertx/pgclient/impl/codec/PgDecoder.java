@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.vertx.sqlclient.impl.Notification;
 import io.vertx.sqlclient.impl.TxStatus;
+import io.vertx.sqlclient.impl.tracing.QueryTrace;
 import io.vertx.pgclient.impl.util.Util;
 import io.netty.buffer.ByteBuf;
 import io.netty.util.ByteProcessor;
@@ -186,7 +187,14 @@ class PgDecoder extends ChannelInboundHandlerAdapter {
     PgCommandCodec<?, ?> codec = inflight.peek();
     QueryCommandBaseCodec<?, ?> cmd = (QueryCommandBaseCodec<?, ?>) codec;
     int len = in.readUnsignedShort();
-    cmd.decoder.decodeRow(len, in);
+    QueryTrace trace = cmd.cmd.trace;
+    if (trace != null) {
+      long start = System.nanoTime();
+      cmd.decoder.decodeRow(len, in);
+      trace.rowDecoded(start, System.nanoTime());
+    } else {
+      cmd.decoder.decodeRow(len, in);
+    }
   }
 
   private void  decodeRowDescription(ByteBuf in) {
@@ -122,6 +122,10 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     flush();
   }
 
+  int unflushedBytes() {
+    return out != null ? out.readableBytes() : 0;
+  }
+
   void flush() {
     if (out != null) {
       ByteBuf buff = out;
@@ -180,6 +184,21 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
     out.setInt(pos + 1, out.writerIndex() - pos - 1);
   }
 
+  /**
+   * Close a named prepared statement, the response is either {@link CloseComplete} or {@link ErrorResponse}.
+   *
+   * @param statement the statement name
+   */
+  void writeCloseStatement(long statement) {
+    ensureBuffer();
+    int pos = out.writerIndex();
+    out.writeByte(CLOSE);
+    out.writeInt(0);
+    out.writeByte('S');
+    out.writeLong(statement);
+    out.setInt(pos + 1, out.writerIndex() - pos - 1);
+  }
+
   void writeStartupMessage(StartupMessage msg) {
     ensureBuffer();
 
@@ -282,16 +301,16 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
       out.writeLong(parse.statement);
     }
     Util.writeCStringUTF8(out, parse.query);
-    // no parameter data types (OIDs)
-    // if(paramDataTypes == null) {
-    out.writeShort(0);
-    // } else {
-    //   // Parameter data types (OIDs)
-    //   out.writeShort(paramDataTypes.length);
-    //   for (int paramDataType : paramDataTypes) {
-    //     out.writeInt(paramDataType);
-    //   }
-    // }
+    if (parse.paramTypes == null) {
+      // no parameter data types (OIDs)
+      out.writeShort(0);
+    } else {
+      // Parameter data types (OIDs), the server infers the unknown types
+      out.writeShort(parse.paramTypes.length);
+      for (DataType paramType : parse.paramTypes) {
+        out.writeInt(paramType == DataType.UNKNOWN ? 0 : paramType.id);
+      }
+    }
     out.setInt(pos + 1, out.writerIndex() - pos - 1);
   }
 
@@ -376,13 +395,16 @@ final class PgEncoder extends ChannelOutboundHandlerAdapter {
 
     // MAKE resultColumsn non null to avoid null check
 
-    // Result columns are all in Binary format
-    if (bind.resultColumns.length > 0) {
+    if (bind.resultColumns == null) {
+      // Result columns are unknown, all in Text format
+      out.writeShort(0);
+    } else if (bind.resultColumns.length > 0) {
       out.writeShort(bind.resultColumns.length);
       for (PgColumnDesc resultColumn : bind.resultColumns) {
         out.writeShort(resultColumn.dataType.supportsBinary ? 1 : 0);
       }
     } else {
+      // Result columns are all in Binary format
       out.writeShort(1);
       out.writeShort(1);
     }
@@ -31,6 +31,34 @@ class PgPreparedStatement implements PreparedStatement {
   final Bind bind;
   final PgParamDesc paramDesc;
   final PgRowDesc rowDesc;
+  final boolean oneShot;
+
+  /**
+   * Create the unnamed statement of a query executed once, the statement is parsed with the parameter types inferred
+   * from the {@code arguments} and described with the execution of the query.
+   *
+   * @return the statement or {@code null} when the type of an argument cannot be inferred
+   */
+  static PgPreparedStatement oneShot(String sql, List<Object> arguments) {
+    DataType[] paramTypes = new DataType[arguments.size()];
+    for (int i = 0;i < paramTypes.length;i++) {
+      DataType paramType = DataType.inferParameterType(arguments.get(i));
+      if (paramType == null) {
+        return null;
+      }
+      paramTypes[i] = paramType;
+    }
+    return new PgPreparedStatement(sql, new PgParamDesc(paramTypes));
+  }
+
+  private PgPreparedStatement(String sql, PgParamDesc paramDesc) {
+    this.paramDesc = paramDesc;
+    this.rowDesc = null;
+    this.sql = sql;
+    this.oneShot = true;
+    // The result columns are not known when the statement is bound
+    this.bind = new Bind(0, paramDesc.paramDataTypes(), null);
+  }
 
   PgPreparedStatement(String sql, long statement, PgParamDesc paramDesc, PgRowDesc rowDesc) {
 
@@ -51,6 +79,7 @@ class PgPreparedStatement implements PreparedStatement {
     this.paramDesc = paramDesc;
     this.rowDesc = rowDesc;
     this.sql = sql;
+    this.oneShot = false;
     this.bind = new Bind(statement, paramDesc != null ? paramDesc.paramDataTypes() : null, rowDesc != null ? rowDesc.columns : EMPTY_COLUMNS);
   }
 
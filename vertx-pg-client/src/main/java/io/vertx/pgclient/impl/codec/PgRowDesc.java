@@ -25,11 +25,15 @@ import java.util.stream.Stream;
 class PgRowDesc extends RowDesc {
 
   final PgColumnDesc[] columns;
+  final VectorDecoder[] vectorDecoders;
 
   PgRowDesc(PgColumnDesc[] columns) {
     super(Collections.unmodifiableList(Stream.of(columns)
       .map(d -> d.name)
       .collect(Collectors.toList())));
     this.columns = columns;
+    this.vectorDecoders = Stream.of(columns)
+      .map(d -> DataTypeCodec.vectorDecoder(d.dataType, d.dataFormat))
+      .toArray(VectorDecoder[]::new);
   }
 }
@@ -21,6 +21,9 @@ import io.vertx.sqlclient.Row;
 import io.vertx.pgclient.impl.RowImpl;
 import io.netty.buffer.ByteBuf;
 import io.vertx.sqlclient.impl.RowDecoder;
+import io.vertx.sqlclient.impl.columnar.ColumnVector;
+import io.vertx.sqlclient.impl.columnar.ColumnarCollector;
+import io.vertx.sqlclient.impl.columnar.ColumnarRowSetImpl;
 
 import java.util.function.BiConsumer;
 import java.util.stream.Collector;
@@ -31,6 +34,7 @@ class RowResultDecoder<C, R> implements RowDecoder {
   final boolean singleton;
   final BiConsumer<C, Row> accumulator;
   final PgRowDesc desc;
+  final VectorDecoder[] vectorDecoders;
 
   private int size;
   private C container;
@@ -41,6 +45,7 @@ class RowResultDecoder<C, R> implements RowDecoder {
     this.singleton = singleton;
     this.accumulator = collector.accumulator();
     this.desc = desc;
+    this.vectorDecoders = ColumnarCollector.isColumnar(collector) ? desc.vectorDecoders : null;
   }
 
   public int size() {
@@ -52,16 +57,22 @@ class RowResultDecoder<C, R> implements RowDecoder {
     if (container == null) {
       container = collector.supplier().get();
     }
+    if (vectorDecoders != null) {
+      decodeColumnar(len, in);
+      return;
+    }
+    Row row;
     if (singleton) {
+      // flyweight collector: refill the same row
+      row = this.row;
       if (row == null) {
-        row = new RowImpl(desc);
+        row = this.row = new RowImpl(desc);
       } else {
         row.clear();
       }
     } else {
       row = new RowImpl(desc);
     }
-    Row row = new RowImpl(desc);
     for (int c = 0; c < len; ++c) {
       int length = in.readInt();
       Object decoded = null;
@@ -80,10 +91,44 @@ class RowResultDecoder<C, R> implements RowDecoder {
     size++;
   }
 
+  /**
+   * Decode the row in the vectors of a columnar row set.
+   */
+  private void decodeColumnar(int len, ByteBuf in) {
+    ColumnarRowSetImpl set = columnar();
+    for (int c = 0; c < len; ++c) {
+      int length = in.readInt();
+      if (length == -1) {
+        set.appendNull(c);
+      } else {
+        vectorDecoders[c].decode(set.vector(c), in.readerIndex(), length, in);
+        in.skipBytes(length);
+      }
+    }
+    set.endRow();
+    size++;
+  }
+
+  private ColumnarRowSetImpl columnar() {
+    ColumnarRowSetImpl set = (ColumnarRowSetImpl) container;
+    if (!set.isInitialized()) {
+      PgColumnDesc[] columns = desc.columns;
+      ColumnVector[] vectors = new ColumnVector[columns.length];
+      for (int c = 0;c < columns.length;c++) {
+        vectors[c] = DataTypeCodec.vector(columns[c].dataType);
+      }
+      set.init(desc.columnNames(), vectors, () -> new RowImpl(desc));
+    }
+    return set;
+  }
+
   R complete() {
     if (container == null) {
       container = collector.supplier().get();
     }
+    if (vectorDecoders != null) {
+      columnar();
+    }
     return collector.finisher().apply(container);
   }
 
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.sqlclient.impl.columnar.ColumnVector;
+
+/**
+ * Decodes the value of a column in the vector of a columnar row set, resolved once per column.
+ */
+@FunctionalInterface
+interface VectorDecoder {
+
+  void decode(ColumnVector vector, int index, int len, ByteBuf buff);
+
+}
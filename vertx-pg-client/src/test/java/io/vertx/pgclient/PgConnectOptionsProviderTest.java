@@ -19,6 +19,7 @@ package io.vertx.pgclient;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -214,6 +215,27 @@ public class PgConnectOptionsProviderTest {
     actualConfiguration = PgConnectOptions.fromUri(connectionUri);
   }
 
+  @Test
+  public void testJsonHosts() {
+    expectedConfiguration = new PgConnectOptions().addHost("host1").addHost("host2:5433");
+    actualConfiguration = new PgConnectOptions(expectedConfiguration.toJson());
+
+    Assert.assertEquals(Arrays.asList("host1", "host2:5433"), actualConfiguration.getHosts());
+    assertEquals(expectedConfiguration, actualConfiguration);
+  }
+
+  @Test
+  public void testJsonStatements() {
+    expectedConfiguration = new PgConnectOptions()
+      .addSessionStatement("SET search_path TO app")
+      .addWarmUpStatement("SELECT id FROM world WHERE id = $1");
+    actualConfiguration = new PgConnectOptions(expectedConfiguration.toJson());
+
+    Assert.assertEquals(Arrays.asList("SET search_path TO app"), actualConfiguration.getSessionStatements());
+    Assert.assertEquals(Arrays.asList("SELECT id FROM world WHERE id = $1"), actualConfiguration.getWarmUpStatements());
+    assertEquals(expectedConfiguration, actualConfiguration);
+  }
+
   private static void assertEquals(PgConnectOptions expectedConfiguration, PgConnectOptions actualConfiguration) {
     Assert.assertEquals(expectedConfiguration.toJson(), actualConfiguration.toJson());
   }
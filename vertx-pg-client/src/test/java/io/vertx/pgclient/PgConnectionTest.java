@@ -114,4 +114,46 @@ public class PgConnectionTest extends PgConnectionTestBase {
       conn.close();
     }));
   }
+
+  @Test
+  public void testWriteQueueFull(TestContext ctx) {
+    Async async = ctx.async();
+    options.setPipeliningLimit(1).setMaxPendingQueueSize(2);
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      int count = 0;
+      while (!conn.writeQueueFull()) {
+        conn.query("SELECT id, randomnumber from WORLD", ctx.asyncAssertSuccess());
+        count++;
+      }
+      // One query in flight and two pending
+      ctx.assertEquals(3, count);
+      conn.query("SELECT id, randomnumber from WORLD", ctx.asyncAssertFailure());
+      conn.drainHandler(v -> {
+        ctx.assertFalse(conn.writeQueueFull());
+        async.complete();
+      });
+    }));
+  }
+
+  @Test
+  public void testSessionStatements(TestContext ctx) {
+    options
+      .addSessionStatement("SET application_name = 'warm-up'")
+      .setCachePreparedStatements(true)
+      .addWarmUpStatement("SELECT id, message FROM Fortune WHERE id=$1");
+    connector.accept(ctx.asyncAssertSuccess(conn -> {
+      conn.query("SHOW application_name", ctx.asyncAssertSuccess(result -> {
+        ctx.assertEquals("warm-up", result.iterator().next().getString(0));
+        conn.preparedQuery("SELECT id, message FROM Fortune WHERE id=$1", Tuple.of(1), ctx.asyncAssertSuccess(result2 -> {
+          ctx.assertEquals(1, result2.size());
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testSessionStatementFailure(TestContext ctx) {
+    options.addSessionStatement("SET does_not_exist = 1");
+    connector.accept(ctx.asyncAssertFailure());
+  }
 }
@@ -294,6 +294,20 @@ public class PgConnectionUriParserTest {
     assertEquals(expectedParsedResult, actualParsedResult);
   }
 
+  @Test
+  public void testParsingParameterTargetSessionAttrs() {
+    uri = "postgresql://?host=localhost&port=1234&target_session_attrs=read-write";
+
+    actualParsedResult = parse(uri);
+
+    expectedParsedResult = new JsonObject()
+      .put("host", "localhost")
+      .put("port", 1234)
+      .put("targetSessionAttrs", "READ_WRITE");
+
+    assertEquals(expectedParsedResult, actualParsedResult);
+  }
+
   @Test
   public void testParsingProperties() {
     uri = "postgresql://?application_name=myapp&search_path=myschema";
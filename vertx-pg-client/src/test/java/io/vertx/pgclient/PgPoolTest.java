@@ -17,12 +17,19 @@
 
 package io.vertx.pgclient;
 
+import io.vertx.sqlclient.GroupCommitClient;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -132,6 +139,313 @@ public class PgPoolTest extends PgPoolTestBase {
     }
   }
 
+  @Test
+  public void testAcquireTimeout(TestContext ctx) {
+    Async async = ctx.async();
+    PgPool pool = createPool(options, 1);
+    pool.getConnection(ctx.asyncAssertSuccess(conn -> {
+      pool.getConnection(100, ctx.asyncAssertFailure(err -> {
+        conn.close();
+        pool.getConnection(100, ctx.asyncAssertSuccess(conn2 -> {
+          conn2.close();
+          async.complete();
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testEventLoopSize(TestContext ctx) {
+    int num = 8;
+    Async async = ctx.async(num);
+    PgPool pool = PgPool.pool(vertx, options, new PoolOptions().setMaxSize(4).setEventLoopSize(2));
+    for (int i = 0;i < num;i++) {
+      vertx.runOnContext(v -> {
+        pool.query("SELECT id, randomnumber from WORLD", ctx.asyncAssertSuccess(rows -> {
+          async.countDown();
+        }));
+      });
+    }
+    async.awaitSuccess(10000);
+    pool.close();
+  }
+
+  @Test
+  public void testEventLoopSizeMaxSize(TestContext ctx) {
+    // 3 connections spread on 2 event loops
+    PgPool pool = PgPool.pool(vertx, options, new PoolOptions().setMaxSize(3).setEventLoopSize(2));
+    int num = 3;
+    Async async = ctx.async(num);
+    List<SqlConnection> conns = Collections.synchronizedList(new ArrayList<>());
+    for (int i = 0;i < num;i++) {
+      // Each runOnContext call from a non Vert.x thread runs on a new event loop context
+      vertx.runOnContext(v -> {
+        pool.getConnection(ctx.asyncAssertSuccess(conn -> {
+          conns.add(conn);
+          async.countDown();
+        }));
+      });
+    }
+    async.awaitSuccess(10000);
+    Async failure = ctx.async();
+    vertx.runOnContext(v -> {
+      pool.getConnection(100, ctx.asyncAssertFailure(err -> {
+        conns.forEach(SqlConnection::close);
+        failure.complete();
+      }));
+    });
+    failure.awaitSuccess(10000);
+    pool.close();
+  }
+
+  @Test
+  public void testEventLoopSizeMaxWaitQueueSize(TestContext ctx) {
+    // 2 connections and 2 waiters spread on 2 event loops
+    PgPool pool = PgPool.pool(vertx, options, new PoolOptions().setMaxSize(2).setMaxWaitQueueSize(2).setEventLoopSize(2));
+    Async async = ctx.async(2);
+    List<SqlConnection> conns = Collections.synchronizedList(new ArrayList<>());
+    for (int i = 0;i < 2;i++) {
+      vertx.runOnContext(v -> {
+        pool.getConnection(ctx.asyncAssertSuccess(conn -> {
+          conns.add(conn);
+          async.countDown();
+        }));
+      });
+    }
+    async.awaitSuccess(10000);
+    // Each slice queues a single waiter, so at least 2 of the 4 waiters are rejected
+    Async rejected = ctx.async(2);
+    AtomicInteger failures = new AtomicInteger();
+    for (int i = 0;i < 4;i++) {
+      vertx.runOnContext(v -> {
+        pool.getConnection(ar -> {
+          if (ar.failed() && failures.incrementAndGet() <= 2) {
+            rejected.countDown();
+          }
+        });
+      });
+    }
+    rejected.awaitSuccess(10000);
+    conns.forEach(SqlConnection::close);
+    pool.close();
+  }
+
+  @Test
+  public void testReadWriteSplitting(TestContext ctx) {
+    Async async = ctx.async(3);
+    PgPool pool = PgPool.pool(vertx, options, Arrays.asList(options, options), new PoolOptions().setMaxSize(1));
+    pool.query("SELECT id, randomnumber from WORLD", ctx.asyncAssertSuccess(rows -> {
+      ctx.assertEquals(10000, rows.size());
+      async.countDown();
+    }));
+    pool.begin(ctx.asyncAssertSuccess(tx -> {
+      tx.query("SELECT id, randomnumber from WORLD", ctx.asyncAssertSuccess(rows -> {
+        tx.commit(ctx.asyncAssertSuccess(v -> async.countDown()));
+      }));
+    }));
+    pool.readOnly().getConnection(ctx.asyncAssertSuccess(conn -> {
+      conn.query("SELECT id, randomnumber from WORLD", ctx.asyncAssertSuccess(rows -> {
+        conn.close();
+        async.countDown();
+      }));
+    }));
+    async.awaitSuccess(10000);
+    pool.close();
+  }
+
+  @Test
+  public void testHostFailover(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnectOptions connectOptions = new PgConnectOptions(options)
+      .addHost("localhost:1")
+      .addHost(options.getHost() + ":" + options.getPort());
+    PgPool pool = createPool(connectOptions, 1);
+    pool.query("SELECT id, randomnumber from WORLD", ctx.asyncAssertSuccess(rows -> {
+      async.complete();
+    }));
+    async.awaitSuccess(10000);
+    pool.close();
+  }
+
+  @Test
+  public void testTargetSessionAttrs(TestContext ctx) {
+    Async async = ctx.async();
+    PgPool readOnly = createPool(new PgConnectOptions(options).setTargetSessionAttrs(TargetSessionAttrs.READ_ONLY), 1);
+    readOnly.query("SELECT id, randomnumber from WORLD", ctx.asyncAssertFailure(err -> {
+      readOnly.close();
+      PgPool readWrite = createPool(new PgConnectOptions(options).setTargetSessionAttrs(TargetSessionAttrs.PREFER_READ_WRITE), 1);
+      readWrite.query("SELECT id, randomnumber from WORLD", ctx.asyncAssertSuccess(rows -> {
+        readWrite.close();
+        async.complete();
+      }));
+    }));
+  }
+
+  @Test
+  public void testPreparedQueryOfEvictedStatement(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnectOptions cacheOptions = new PgConnectOptions(options)
+      .setCachePreparedStatements(true)
+      .setPreparedStatementCacheMaxSize(1);
+    PgPool pool = PgPool.pool(vertx, cacheOptions, new PoolOptions().setMaxSize(1));
+    pool.getConnection(ctx.asyncAssertSuccess(conn -> {
+      conn.prepare("SELECT * FROM Fortune WHERE id=$1", ctx.asyncAssertSuccess(ps1 -> {
+        // Evicts the statement of the first prepared query
+        conn.prepare("SELECT id FROM Fortune WHERE id=$1", ctx.asyncAssertSuccess(ps2 -> {
+          ps1.execute(Tuple.of(1), ctx.asyncAssertSuccess(results -> {
+            ctx.assertEquals(1, results.size());
+            ps1.close(ctx.asyncAssertSuccess(v -> {
+              ps2.execute(Tuple.of(1), ctx.asyncAssertSuccess(results2 -> {
+                ctx.assertEquals(1, results2.size());
+                conn.close();
+                pool.close();
+                async.complete();
+              }));
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testResetOnRelease(TestContext ctx) {
+    Async async = ctx.async();
+    PgPool pool = PgPool.pool(vertx, options, new PoolOptions().setMaxSize(1).setResetOnRelease(true));
+    pool.getConnection(ctx.asyncAssertSuccess(conn1 -> {
+      conn1.query("SET application_name = 'dirty'", ctx.asyncAssertSuccess(v -> {
+        conn1.close();
+        pool.getConnection(ctx.asyncAssertSuccess(conn2 -> {
+          conn2.query("SHOW application_name", ctx.asyncAssertSuccess(rows -> {
+            ctx.assertNotEquals("dirty", rows.iterator().next().getString(0));
+            conn2.close();
+            pool.close();
+            async.complete();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testResetOnReleaseWithSessionStatements(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnectOptions sessionOptions = new PgConnectOptions(options)
+      .addSessionStatement("SET application_name = 'session'")
+      .setCachePreparedStatements(true)
+      .addWarmUpStatement("SELECT id, message FROM Fortune WHERE id=$1");
+    PgPool pool = PgPool.pool(vertx, sessionOptions, new PoolOptions().setMaxSize(1).setResetOnRelease(true));
+    pool.getConnection(ctx.asyncAssertSuccess(conn1 -> {
+      conn1.query("SET application_name = 'dirty'", ctx.asyncAssertSuccess(v -> {
+        conn1.close();
+        pool.getConnection(ctx.asyncAssertSuccess(conn2 -> {
+          // The session statements are executed again after the reset
+          conn2.query("SHOW application_name", ctx.asyncAssertSuccess(rows -> {
+            ctx.assertEquals("session", rows.iterator().next().getString(0));
+            conn2.preparedQuery("SELECT id, message FROM Fortune WHERE id=$1", Tuple.of(1), ctx.asyncAssertSuccess(rows2 -> {
+              ctx.assertEquals(1, rows2.size());
+              conn2.close();
+              pool.close();
+              async.complete();
+            }));
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testFlushCoalescing(TestContext ctx) {
+    int num = 50;
+    Async async = ctx.async(num);
+    PgPool pool = PgPool.pool(vertx, new PgConnectOptions(options).setFlushCoalescingMaxBytes(1024), new PoolOptions().setMaxSize(1));
+    vertx.runOnContext(v -> {
+      for (int i = 0;i < num;i++) {
+        int id = 1 + i;
+        pool.preparedQuery("SELECT id, randomnumber from WORLD WHERE id=$1", Tuple.of(id), ctx.asyncAssertSuccess(rows -> {
+          ctx.assertEquals(1, rows.size());
+          ctx.assertEquals(id, rows.iterator().next().getInteger(0));
+          async.countDown();
+        }));
+      }
+    });
+    async.awaitSuccess(10000);
+    pool.close();
+  }
+
+  @Test
+  public void testQueryTimeout(TestContext ctx) {
+    Async async = ctx.async();
+    PgPool pool = createPool(new PgConnectOptions(options).setQueryTimeout(500), 1);
+    pool.query("SELECT pg_sleep(10)", ctx.asyncAssertFailure(err -> {
+      // The connection is reused once the query is cancelled
+      pool.query("SELECT id, randomnumber from WORLD", ctx.asyncAssertSuccess(rows -> {
+        ctx.assertEquals(10000, rows.size());
+        pool.close();
+        async.complete();
+      }));
+    }));
+    async.awaitSuccess(5000);
+  }
+
+  @Test
+  public void testQueryTimeoutOverride(TestContext ctx) {
+    Async async = ctx.async();
+    PgPool pool = createPool(options, 1);
+    pool.preparedQuery("SELECT pg_sleep($1)", Tuple.of(10), 500, ctx.asyncAssertFailure(err -> {
+      // The connection is reused once the query is cancelled
+      pool.query("SELECT id, randomnumber from WORLD", ctx.asyncAssertSuccess(rows -> {
+        ctx.assertEquals(10000, rows.size());
+        pool.close();
+        async.complete();
+      }));
+    }));
+    async.awaitSuccess(5000);
+  }
+
+  @Test
+  public void testGroupCommit(TestContext ctx) {
+    int num = 10;
+    Async async = ctx.async(num);
+    PgPool pool = PgPool.pool(vertx, new PgConnectOptions(options).setPipelinedTransactions(true), new PoolOptions().setMaxSize(1));
+    pool.query("DELETE FROM Test", ctx.asyncAssertSuccess(v -> {
+      GroupCommitClient client = GroupCommitClient.create(vertx, pool, num, 100);
+      for (int i = 0;i < num - 1;i++) {
+        client.preparedQuery("INSERT INTO Test (id, val) VALUES ($1, 'group')", Tuple.of(i), ctx.asyncAssertSuccess(result -> {
+          ctx.assertEquals(1, result.rowCount());
+          async.countDown();
+        }));
+      }
+      // Only the duplicate insert fails
+      client.preparedQuery("INSERT INTO Test (id, val) VALUES ($1, 'group')", Tuple.of(0), ctx.asyncAssertFailure(err -> {
+        async.countDown();
+      }));
+    }));
+    async.awaitSuccess(10000);
+    Async done = ctx.async();
+    pool.query("SELECT id FROM Test", ctx.asyncAssertSuccess(rows -> {
+      ctx.assertEquals(num - 1, rows.size());
+      pool.close();
+      done.complete();
+    }));
+  }
+
+  @Test
+  public void testGroupCommitClose(TestContext ctx) {
+    Async async = ctx.async(2);
+    PgPool pool = PgPool.pool(vertx, new PgConnectOptions(options), new PoolOptions().setMaxSize(1));
+    GroupCommitClient client = GroupCommitClient.create(vertx, pool, 10, 100);
+    client.query("SELECT 1", ctx.asyncAssertSuccess(result -> {
+      async.countDown();
+    }));
+    client.close();
+    client.query("SELECT 1", ctx.asyncAssertFailure(err -> {
+      async.countDown();
+    }));
+    async.awaitSuccess(10000);
+    pool.close();
+  }
+
   // This test check that when using pooled connections, the preparedQuery pool operation
   // will actually use the same connection for the prepare and the query commands
   @Test
@@ -16,14 +16,18 @@
  */
 package io.vertx.pgclient;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Transaction;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 public class PgTransactionTest extends PgClientTestBase<Transaction> {
 
   private PgPool pool;
@@ -122,4 +126,72 @@ public class PgTransactionTest extends PgClientTestBase<Transaction> {
     }));
   }
 
+  @Test
+  public void testPipelinedCommit(TestContext ctx) {
+    Async async = ctx.async();
+    PgPool pipelinedPool = PgPool.pool(vertx, new PgConnectOptions(options).setPipelinedTransactions(true), new PoolOptions().setMaxSize(1));
+    pipelinedPool.begin(ctx.asyncAssertSuccess(tx -> {
+      for (int i = 0;i < 5;i++) {
+        tx.preparedQuery("INSERT INTO Fortune (id, message) VALUES ($1, $2);", Tuple.of(15 + i, "pipelined"), ctx.asyncAssertSuccess(result -> {
+          ctx.assertEquals(1, result.rowCount());
+        }));
+      }
+      tx.commit(ctx.asyncAssertSuccess(v -> {
+        pipelinedPool.query("SELECT id from Fortune where message = 'pipelined'", ctx.asyncAssertSuccess(rowSet -> {
+          ctx.assertEquals(5, rowSet.rowCount());
+          pipelinedPool.close();
+          async.complete();
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testPipelinedPreparedQueryOrder(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnectOptions pipelinedOptions = new PgConnectOptions(options)
+      .setPipelinedTransactions(true)
+      .setCachePreparedStatements(false)
+      .setOneShotPreparedQueries(false);
+    PgPool pipelinedPool = PgPool.pool(vertx, pipelinedOptions, new PoolOptions().setMaxSize(1));
+    pipelinedPool.begin(ctx.asyncAssertSuccess(tx -> {
+      // The statement execution is sent after the preparation completes, before the commands scheduled after it
+      tx.preparedQuery("INSERT INTO Fortune (id, message) VALUES ($1, $2);", Tuple.of(21, "ordered"), ctx.asyncAssertSuccess(result -> {
+        ctx.assertEquals(1, result.rowCount());
+      }));
+      tx.query("INSERT INTO Fortune (id, message) VALUES (22, 'ordered')", ctx.asyncAssertSuccess());
+      tx.commit(ctx.asyncAssertSuccess(v -> {
+        pipelinedPool.query("SELECT id from Fortune where message = 'ordered'", ctx.asyncAssertSuccess(rowSet -> {
+          ctx.assertEquals(2, rowSet.rowCount());
+          pipelinedPool.close();
+          async.complete();
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testPipelinedAbort(TestContext ctx) {
+    Async async = ctx.async();
+    PgPool pipelinedPool = PgPool.pool(vertx, new PgConnectOptions(options).setPipelinedTransactions(true), new PoolOptions().setMaxSize(1));
+    pipelinedPool.begin(ctx.asyncAssertSuccess(tx -> {
+      AtomicReference<AsyncResult<RowSet>> queryAfterFailed = new AtomicReference<>();
+      AtomicReference<AsyncResult<Void>> commit = new AtomicReference<>();
+      tx.query("INSERT INTO Fortune (id, message) VALUES (20, 'aborted')", ctx.asyncAssertSuccess());
+      tx.query("SELECT whatever from DOES_NOT_EXIST", ctx.asyncAssertFailure(err -> {
+        // The results of the statements sent after the failure are discarded
+        ctx.assertNotNull(queryAfterFailed.get());
+        ctx.assertTrue(queryAfterFailed.get().failed());
+        ctx.assertNotNull(commit.get());
+        ctx.assertTrue(commit.get().failed());
+        pipelinedPool.query("SELECT id from Fortune where id = 20", ctx.asyncAssertSuccess(rowSet -> {
+          ctx.assertEquals(0, rowSet.rowCount());
+          pipelinedPool.close();
+          async.complete();
+        }));
+      }));
+      tx.query("SELECT id from Fortune", queryAfterFailed::set);
+      tx.commit(commit::set);
+    }));
+  }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.pgclient;
+
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+public class PreparedStatementOneShotTest extends PreparedStatementTestBase {
+
+  @Override
+  protected PgConnectOptions options() {
+    return new PgConnectOptions(options).setOneShotPreparedQueries(true);
+  }
+
+  @Test
+  public void testOneShotPreparedQuery(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options(), ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT id, message FROM Fortune WHERE id=$1 AND message <> $2", Tuple.of(1, "none"), ctx.asyncAssertSuccess(results -> {
+        ctx.assertEquals(1, results.size());
+        Row row = results.iterator().next();
+        ctx.assertEquals(1, row.getInteger(0));
+        ctx.assertEquals("fortune: No such file or directory", row.getString(1));
+        conn.preparedQuery("SELECT $1::DATE, $2::INT8, $3::TEXT IS NULL", Tuple.of(LocalDate.of(2019, 6, 1), 4L, null), ctx.asyncAssertSuccess(results2 -> {
+          Row row2 = results2.iterator().next();
+          ctx.assertEquals(LocalDate.of(2019, 6, 1), row2.getLocalDate(0));
+          ctx.assertEquals(4L, row2.getLong(1));
+          ctx.assertEquals(true, row2.getBoolean(2));
+          conn.preparedQuery("UPDATE Fortune SET message=message WHERE id=$1", Tuple.of(2), ctx.asyncAssertSuccess(results3 -> {
+            ctx.assertEquals(1, results3.rowCount());
+            async.complete();
+          }));
+        }));
+      }));
+    }));
+  }
+}
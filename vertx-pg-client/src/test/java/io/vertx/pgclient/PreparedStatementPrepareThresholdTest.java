@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.pgclient;
+
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.sqlclient.Tuple;
+import org.junit.Test;
+
+public class PreparedStatementPrepareThresholdTest extends PreparedStatementTestBase {
+
+  @Override
+  protected PgConnectOptions options() {
+    return new PgConnectOptions(options).setCachePreparedStatements(true).setPrepareThreshold(3);
+  }
+
+  @Test
+  public void testPipelinedQueriesBelowThreshold(TestContext ctx) {
+    // the statements below the threshold are not cached, each query must get its own result
+    Async async = ctx.async(2);
+    PgConnection.connect(vertx, options(), ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery("SELECT id, message FROM Fortune WHERE id=$1", Tuple.of(1), ctx.asyncAssertSuccess(results -> {
+        ctx.assertEquals(1, results.size());
+        ctx.assertEquals("fortune: No such file or directory", results.iterator().next().getString(1));
+        async.countDown();
+      }));
+      conn.preparedQuery("SELECT id, message FROM Fortune WHERE id=$1 OR id=$2", Tuple.of(1, 2), ctx.asyncAssertSuccess(results -> {
+        ctx.assertEquals(2, results.size());
+        async.countDown();
+      }));
+    }));
+  }
+}
@@ -22,6 +22,7 @@ import io.vertx.core.Vertx;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.pgclient.impl.util.Util;
+import io.vertx.sqlclient.ColumnarRowSet;
 import io.vertx.sqlclient.Cursor;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowStream;
@@ -30,8 +31,12 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
@@ -108,6 +113,59 @@ public abstract class PreparedStatementTestBase extends PgTestBase {
     }));
   }
 
+  @Test
+  public void testFlyweightCollectorQuery(TestContext ctx) {
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options(), ctx.asyncAssertSuccess(conn -> {
+      conn.prepare("SELECT * FROM Fortune WHERE id=$1 OR id=$2 OR id=$3 OR id=$4 OR id=$5 OR id=$6", ctx.asyncAssertSuccess(ps -> {
+        Set<Row> rows = Collections.newSetFromMap(new IdentityHashMap<>());
+        ps.execute(Tuple.of(1, 8, 4, 11, 2, 9), Row.flyweight(Collectors.summingInt(row -> {
+          rows.add(row);
+          return row.getInteger("id");
+        })), ctx.asyncAssertSuccess(results -> {
+          ctx.assertEquals(6, results.size());
+          ctx.assertEquals(35, results.value());
+          ctx.assertEquals(1, rows.size());
+          ps.close(ctx.asyncAssertSuccess(result -> {
+            async.complete();
+          }));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void testColumnarQuery(TestContext ctx) {
+    String sql = "SELECT i::INT4 AS id, i::INT8, i::FLOAT8 / 2, i % 2 = 0, TIMESTAMP '2019-01-01' + i * INTERVAL '1 second', NULLIF(i, 3), 'val' || i" +
+      " FROM generate_series(1, 5) AS i";
+    Async async = ctx.async();
+    PgConnection.connect(vertx, options(), ctx.asyncAssertSuccess(conn -> {
+      conn.preparedQuery(sql, ColumnarRowSet.collector(), ctx.asyncAssertSuccess(result -> {
+        checkColumnar(ctx, result.value());
+        conn.query(sql, ColumnarRowSet.collector(), ctx.asyncAssertSuccess(result2 -> {
+          checkColumnar(ctx, result2.value());
+          async.complete();
+        }));
+      }));
+    }));
+  }
+
+  private void checkColumnar(TestContext ctx, ColumnarRowSet set) {
+    ctx.assertEquals(5, set.size());
+    ctx.assertEquals(0, set.columnIndex("id"));
+    ctx.assertTrue(Arrays.equals(new int[] { 1, 2, 3, 4, 5 }, set.getIntColumn(0)));
+    ctx.assertTrue(Arrays.equals(new long[] { 1, 2, 3, 4, 5 }, set.getLongColumn(1)));
+    ctx.assertTrue(Arrays.equals(new double[] { 0.5, 1, 1.5, 2, 2.5 }, set.getDoubleColumn(2)));
+    ctx.assertTrue(Arrays.equals(new boolean[] { false, true, false, true, false }, set.getBooleanColumn(3)));
+    ctx.assertEquals(LocalDateTime.of(2019, 1, 1, 0, 0, 2), set.getValue(1, 4));
+    ctx.assertTrue(Arrays.equals(new int[] { 1, 2, 0, 4, 5 }, set.getIntColumn(5)));
+    ctx.assertTrue(set.isNull(2, 5));
+    ctx.assertEquals("val4", set.getValue(3, 6));
+    Row row = set.getRow(3);
+    ctx.assertEquals(4, row.getInteger("id"));
+    ctx.assertEquals("val4", row.getString(6));
+  }
+
 /*
   @Test
   public void testQueryStream(TestContext ctx) {
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.pgclient.impl.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.sqlclient.Row;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Decodes a wide row of binary and text columns, run with the JMH runner from the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RowDecoderBenchmark {
+
+  private static final DataType[] TYPES = { DataType.INT4, DataType.INT8, DataType.FLOAT8, DataType.BOOL, DataType.VARCHAR };
+
+  @Param({ "10", "60" })
+  int columns;
+
+  private ByteBuf row;
+  private PgRowDesc desc;
+  private RowResultDecoder<?, Long> decoder;
+
+  @Setup
+  public void setup() {
+    PgColumnDesc[] descs = new PgColumnDesc[columns];
+    row = Unpooled.buffer();
+    for (int c = 0;c < columns;c++) {
+      DataType type = TYPES[c % TYPES.length];
+      DataFormat format = type == DataType.VARCHAR ? DataFormat.TEXT : DataFormat.BINARY;
+      descs[c] = new PgColumnDesc("col" + c, 0, (short) c, type, (short) -1, -1, format);
+      switch (type) {
+        case INT4:
+          row.writeInt(4).writeInt(c);
+          break;
+        case INT8:
+          row.writeInt(8).writeLong(c);
+          break;
+        case FLOAT8:
+          row.writeInt(8).writeDouble(c);
+          break;
+        case BOOL:
+          row.writeInt(1).writeBoolean(true);
+          break;
+        default:
+          byte[] bytes = ("value" + c).getBytes(StandardCharsets.UTF_8);
+          row.writeInt(bytes.length).writeBytes(bytes);
+          break;
+      }
+    }
+    desc = new PgRowDesc(descs);
+    decoder = new RowResultDecoder<>(Collectors.<Row>counting(), true, desc);
+  }
+
+  @Benchmark
+  public Long decodeRow() {
+    decoder.reset();
+    row.readerIndex(0);
+    decoder.decodeRow(columns, row);
+    return decoder.complete();
+  }
+}
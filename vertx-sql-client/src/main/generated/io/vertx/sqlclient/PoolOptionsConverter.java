@@ -14,6 +14,51 @@ public class PoolOptionsConverter {
   public static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, PoolOptions obj) {
     for (java.util.Map.Entry<String, Object> member : json) {
       switch (member.getKey()) {
+        case "acquireTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setAcquireTimeout(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "adaptiveSizing":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAdaptiveSizing((Boolean)member.getValue());
+          }
+          break;
+        case "circuitBreakerThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setCircuitBreakerThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "connectBackoff":
+          if (member.getValue() instanceof Number) {
+            obj.setConnectBackoff(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "eventLoopSize":
+          if (member.getValue() instanceof Number) {
+            obj.setEventLoopSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "idleTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setIdleTimeout(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "maxConnectBackoff":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxConnectBackoff(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "maxConnecting":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxConnecting(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxLifetime":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxLifetime(((Number)member.getValue()).longValue());
+          }
+          break;
         case "maxSize":
           if (member.getValue() instanceof Number) {
             obj.setMaxSize(((Number)member.getValue()).intValue());
@@ -24,6 +69,31 @@ public class PoolOptionsConverter {
             obj.setMaxWaitQueueSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "metricsName":
+          if (member.getValue() instanceof String) {
+            obj.setMetricsName((String)member.getValue());
+          }
+          break;
+        case "minIdle":
+          if (member.getValue() instanceof Number) {
+            obj.setMinIdle(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "multiplexing":
+          if (member.getValue() instanceof Boolean) {
+            obj.setMultiplexing((Boolean)member.getValue());
+          }
+          break;
+        case "poolCleanerPeriod":
+          if (member.getValue() instanceof Number) {
+            obj.setPoolCleanerPeriod(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "resetOnRelease":
+          if (member.getValue() instanceof Boolean) {
+            obj.setResetOnRelease((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -33,7 +103,23 @@ public class PoolOptionsConverter {
   }
 
   public static void toJson(PoolOptions obj, java.util.Map<String, Object> json) {
+    json.put("acquireTimeout", obj.getAcquireTimeout());
+    json.put("adaptiveSizing", obj.isAdaptiveSizing());
+    json.put("circuitBreakerThreshold", obj.getCircuitBreakerThreshold());
+    json.put("connectBackoff", obj.getConnectBackoff());
+    json.put("eventLoopSize", obj.getEventLoopSize());
+    json.put("idleTimeout", obj.getIdleTimeout());
+    json.put("maxConnectBackoff", obj.getMaxConnectBackoff());
+    json.put("maxConnecting", obj.getMaxConnecting());
+    json.put("maxLifetime", obj.getMaxLifetime());
     json.put("maxSize", obj.getMaxSize());
     json.put("maxWaitQueueSize", obj.getMaxWaitQueueSize());
+    if (obj.getMetricsName() != null) {
+      json.put("metricsName", obj.getMetricsName());
+    }
+    json.put("minIdle", obj.getMinIdle());
+    json.put("multiplexing", obj.isMultiplexing());
+    json.put("poolCleanerPeriod", obj.getPoolCleanerPeriod());
+    json.put("resetOnRelease", obj.isResetOnRelease());
   }
 }
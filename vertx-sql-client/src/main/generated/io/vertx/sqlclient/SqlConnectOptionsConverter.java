@@ -24,26 +24,66 @@ public class SqlConnectOptionsConverter {
             obj.setDatabase((String)member.getValue());
           }
           break;
+        case "flushCoalescingMaxBytes":
+          if (member.getValue() instanceof Number) {
+            obj.setFlushCoalescingMaxBytes(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "flushCoalescingMaxDelay":
+          if (member.getValue() instanceof Number) {
+            obj.setFlushCoalescingMaxDelay(((Number)member.getValue()).longValue());
+          }
+          break;
         case "host":
           if (member.getValue() instanceof String) {
             obj.setHost((String)member.getValue());
           }
           break;
+        case "hostBackoff":
+          if (member.getValue() instanceof Number) {
+            obj.setHostBackoff(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "hostSelection":
+          if (member.getValue() instanceof String) {
+            obj.setHostSelection(io.vertx.sqlclient.HostSelection.valueOf((String)member.getValue()));
+          }
+          break;
+        case "maxPendingQueueSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxPendingQueueSize(((Number)member.getValue()).intValue());
+          }
+          break;
         case "password":
           if (member.getValue() instanceof String) {
             obj.setPassword((String)member.getValue());
           }
           break;
+        case "pipelinedTransactions":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPipelinedTransactions((Boolean)member.getValue());
+          }
+          break;
         case "port":
           if (member.getValue() instanceof Number) {
             obj.setPort(((Number)member.getValue()).intValue());
           }
           break;
+        case "prepareThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setPrepareThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
         case "preparedStatementCacheMaxSize":
           if (member.getValue() instanceof Number) {
             obj.setPreparedStatementCacheMaxSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "preparedStatementCachePolicy":
+          if (member.getValue() instanceof String) {
+            obj.setPreparedStatementCachePolicy(io.vertx.sqlclient.PreparedStatementCachePolicy.valueOf((String)member.getValue()));
+          }
+          break;
         case "preparedStatementCacheSqlLimit":
           if (member.getValue() instanceof Number) {
             obj.setPreparedStatementCacheSqlLimit(((Number)member.getValue()).intValue());
@@ -67,6 +107,21 @@ public class SqlConnectOptionsConverter {
             });
           }
           break;
+        case "queryTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setQueryTimeout(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "slowQuerySampleRate":
+          if (member.getValue() instanceof Number) {
+            obj.setSlowQuerySampleRate(((Number)member.getValue()).doubleValue());
+          }
+          break;
+        case "slowQueryThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setSlowQueryThreshold(((Number)member.getValue()).longValue());
+          }
+          break;
         case "user":
           if (member.getValue() instanceof String) {
             obj.setUser((String)member.getValue());
@@ -85,20 +140,35 @@ public class SqlConnectOptionsConverter {
     if (obj.getDatabase() != null) {
       json.put("database", obj.getDatabase());
     }
+    json.put("flushCoalescingMaxBytes", obj.getFlushCoalescingMaxBytes());
+    json.put("flushCoalescingMaxDelay", obj.getFlushCoalescingMaxDelay());
     if (obj.getHost() != null) {
       json.put("host", obj.getHost());
     }
+    json.put("hostBackoff", obj.getHostBackoff());
+    if (obj.getHostSelection() != null) {
+      json.put("hostSelection", obj.getHostSelection().name());
+    }
+    json.put("maxPendingQueueSize", obj.getMaxPendingQueueSize());
     if (obj.getPassword() != null) {
       json.put("password", obj.getPassword());
     }
+    json.put("pipelinedTransactions", obj.getPipelinedTransactions());
     json.put("port", obj.getPort());
+    json.put("prepareThreshold", obj.getPrepareThreshold());
     json.put("preparedStatementCacheMaxSize", obj.getPreparedStatementCacheMaxSize());
+    if (obj.getPreparedStatementCachePolicy() != null) {
+      json.put("preparedStatementCachePolicy", obj.getPreparedStatementCachePolicy().name());
+    }
     json.put("preparedStatementCacheSqlLimit", obj.getPreparedStatementCacheSqlLimit());
     if (obj.getProperties() != null) {
       JsonObject map = new JsonObject();
       obj.getProperties().forEach((key, value) -> map.put(key, value));
       json.put("properties", map);
     }
+    json.put("queryTimeout", obj.getQueryTimeout());
+    json.put("slowQuerySampleRate", obj.getSlowQuerySampleRate());
+    json.put("slowQueryThreshold", obj.getSlowQueryThreshold());
     if (obj.getUser() != null) {
       json.put("user", obj.getUser());
     }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.sqlclient.impl.columnar.ColumnarCollector;
+
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * A set of rows stored column by column: the {@code INT4}, {@code INT8}, {@code FLOAT8}, {@code BOOL} and
+ * {@code TIMESTAMP} like columns are stored in primitive arrays with a null bitmap, the other columns keep their
+ * values as objects.
+ *
+ * The set is created by running a query with the {@link #collector()}.
+ */
+public interface ColumnarRowSet extends Iterable<Row> {
+
+  /**
+   * The collector creating a columnar row set, it must be passed directly to the query so the values are decoded
+   * in the columns without creating a row per result row.
+   *
+   * @return the collector
+   */
+  static Collector<Row, ?, ColumnarRowSet> collector() {
+    return ColumnarCollector.INSTANCE;
+  }
+
+  /**
+   * @return the number of rows
+   */
+  int size();
+
+  /**
+   * @return the column names
+   */
+  List<String> columnNames();
+
+  /**
+   * @return the index of the column {@code name} or {@code -1} if not found
+   */
+  int columnIndex(String name);
+
+  /**
+   * @return whether the value of {@code column} at {@code row} is null
+   */
+  boolean isNull(int row, int column);
+
+  /**
+   * @return the value of {@code column} at {@code row} or {@code null}
+   */
+  Object getValue(int row, int column);
+
+  /**
+   * @return the values of an {@code int} column, the null values are {@code 0}
+   * @throws IllegalStateException when the column is not an {@code int} column
+   */
+  int[] getIntColumn(int column);
+
+  /**
+   * Get the values of a {@code long} column, a timestamp column is a {@code long} column of microseconds since the epoch.
+   *
+   * @return the values, the null values are {@code 0}
+   * @throws IllegalStateException when the column is not a {@code long} column
+   */
+  long[] getLongColumn(int column);
+
+  /**
+   * @return the values of a {@code double} column, the null values are {@code 0}
+   * @throws IllegalStateException when the column is not a {@code double} column
+   */
+  double[] getDoubleColumn(int column);
+
+  /**
+   * @return the values of a {@code boolean} column, the null values are {@code false}
+   * @throws IllegalStateException when the column is not a {@code boolean} column
+   */
+  boolean[] getBooleanColumn(int column);
+
+  /**
+   * @return the values of {@code column} as objects, primitive columns are boxed
+   */
+  Object[] getColumn(int column);
+
+  /**
+   * Create a row holding the values at {@code row}, the row is not retained by the set.
+   *
+   * @return the row
+   */
+  Row getRow(int row);
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.impl.GroupCommitClientImpl;
+
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * A client that groups independent writes in a single transaction, so the server commits many of them at once.
+ *
+ * The queries arriving within {@code maxDelay} milliseconds, or until {@code maxSize} queries are gathered, are
+ * executed in a transaction borrowed from the pool and their handlers are completed once this transaction commits.
+ * When a query fails, the transaction is rolled back and each query of the group is retried on its own, so the failure
+ * of a query does not affect the other queries. When the commit fails, the server might have committed the transaction:
+ * the queries are not retried and their handlers are failed with the commit failure.
+ *
+ * The queries should be independent writes that can be executed in any order, setting
+ * {@link SqlConnectOptions#setPipelinedTransactions(boolean)} on the pool sends a group in a single round trip.
+ */
+@VertxGen
+public interface GroupCommitClient extends SqlClient {
+
+  /**
+   * Create a group commit client on top of a {@code pool}.
+   *
+   * @param vertx the vertx instance
+   * @param pool the pool executing the groups
+   * @param maxSize the maximum number of queries in a group
+   * @param maxDelay the maximum time in milliseconds a query waits for other queries, {@code 0} groups the queries
+   *                 issued during the same event loop iteration
+   * @return the client
+   */
+  static GroupCommitClient create(Vertx vertx, Pool pool, int maxSize, long maxDelay) {
+    return new GroupCommitClientImpl(vertx, pool, maxSize, maxDelay);
+  }
+
+  @Override
+  GroupCommitClient query(String sql, Handler<AsyncResult<RowSet>> handler);
+
+  @Override
+  GroupCommitClient query(String sql, long timeout, Handler<AsyncResult<RowSet>> handler);
+
+  @Override
+  @GenIgnore
+  <R> GroupCommitClient query(String sql, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
+
+  @Override
+  GroupCommitClient preparedQuery(String sql, Handler<AsyncResult<RowSet>> handler);
+
+  @Override
+  @GenIgnore
+  <R> GroupCommitClient preparedQuery(String sql, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
+
+  @Override
+  GroupCommitClient preparedQuery(String sql, Tuple arguments, Handler<AsyncResult<RowSet>> handler);
+
+  @Override
+  GroupCommitClient preparedQuery(String sql, Tuple arguments, long timeout, Handler<AsyncResult<RowSet>> handler);
+
+  @Override
+  @GenIgnore
+  <R> GroupCommitClient preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
+
+  @Override
+  GroupCommitClient preparedBatch(String sql, List<Tuple> batch, Handler<AsyncResult<RowSet>> handler);
+
+  @Override
+  @GenIgnore
+  <R> GroupCommitClient preparedBatch(String sql, List<Tuple> batch, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
+
+  /**
+   * Execute the queries waiting for a group, the queries issued afterwards fail, the pool is not closed.
+   */
+  @Override
+  void close();
+
+}
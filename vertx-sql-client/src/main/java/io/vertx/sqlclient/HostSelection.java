@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient;
+
+/**
+ * The order in which the hosts of {@link SqlConnectOptions#getHosts()} are tried when connecting.
+ *
+ * Hosts that failed recently are tried after the other hosts, whatever the selection.
+ */
+public enum HostSelection {
+
+  /**
+   * try the hosts in the configured order, the first reachable host is used.
+   */
+  ORDERED,
+
+  /**
+   * try the hosts in a random order, spreading the connections over the hosts.
+   */
+  RANDOM
+
+}
@@ -43,6 +43,9 @@ public interface Pool extends SqlClient {
   @Override
   Pool query(String sql, Handler<AsyncResult<RowSet>> handler);
 
+  @Override
+  Pool query(String sql, long timeout, Handler<AsyncResult<RowSet>> handler);
+
   @Override
   @GenIgnore
   <R> Pool query(String sql, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
@@ -50,6 +53,9 @@ public interface Pool extends SqlClient {
   @Override
   Pool preparedQuery(String sql, Tuple arguments, Handler<AsyncResult<RowSet>> handler);
 
+  @Override
+  Pool preparedQuery(String sql, Tuple arguments, long timeout, Handler<AsyncResult<RowSet>> handler);
+
   @Override
   @GenIgnore
   <R> Pool preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
@@ -68,6 +74,14 @@ public interface Pool extends SqlClient {
    */
   void getConnection(Handler<AsyncResult<SqlConnection>> handler);
 
+  /**
+   * Get a connection from the pool, the request fails when no connection can be obtained before the {@code timeout}.
+   *
+   * @param timeout the acquire timeout in milliseconds, {@code 0} means no timeout
+   * @param handler the handler that will get the connection result
+   */
+  void getConnection(long timeout, Handler<AsyncResult<SqlConnection>> handler);
+
   /**
    * Borrow a connection from the pool and begin a transaction, the underlying connection will be returned
    * to the pool when the transaction ends.
@@ -38,8 +38,97 @@ public class PoolOptions {
    */
   public static final int DEFAULT_MAX_WAIT_QUEUE_SIZE = -1;
 
+  /**
+   * Default acquire timeout in milliseconds = 0 (no timeout)
+   */
+  public static final long DEFAULT_ACQUIRE_TIMEOUT = 0;
+
+  /**
+   * Default multiplexing mode = false
+   */
+  public static final boolean DEFAULT_MULTIPLEXING = false;
+
+  /**
+   * Default reset on release mode = false
+   */
+  public static final boolean DEFAULT_RESET_ON_RELEASE = false;
+
+  /**
+   * Default max number of connections being opened concurrently = 0 (no limit)
+   */
+  public static final int DEFAULT_MAX_CONNECTING = 0;
+
+  /**
+   * Default connect backoff in milliseconds = 0 (no backoff)
+   */
+  public static final long DEFAULT_CONNECT_BACKOFF = 0;
+
+  /**
+   * Default max connect backoff in milliseconds = 30000
+   */
+  public static final long DEFAULT_MAX_CONNECT_BACKOFF = 30000;
+
+  /**
+   * Default circuit breaker threshold = 0 (no circuit breaker)
+   */
+  public static final int DEFAULT_CIRCUIT_BREAKER_THRESHOLD = 0;
+
+  /**
+   * Connect backoff in milliseconds of an open circuit breaker when no connect backoff is set = 1000
+   */
+  public static final long CIRCUIT_BREAKER_BACKOFF = 1000;
+
+  /**
+   * Default adaptive sizing mode = false
+   */
+  public static final boolean DEFAULT_ADAPTIVE_SIZING = false;
+
+  /**
+   * Default number of event loops = 0 (the pool uses the current event loop)
+   */
+  public static final int DEFAULT_EVENT_LOOP_SIZE = 0;
+
+  /**
+   * Default metrics name = "default"
+   */
+  public static final String DEFAULT_METRICS_NAME = "default";
+
+  /**
+   * Default connection idle timeout in milliseconds = 0 (no timeout)
+   */
+  public static final long DEFAULT_IDLE_TIMEOUT = 0;
+
+  /**
+   * Default connection max lifetime in milliseconds = 0 (no limit)
+   */
+  public static final long DEFAULT_MAX_LIFETIME = 0;
+
+  /**
+   * Default minimum number of idle connections = 0
+   */
+  public static final int DEFAULT_MIN_IDLE = 0;
+
+  /**
+   * Default pool cleaner period in milliseconds = 1000
+   */
+  public static final long DEFAULT_POOL_CLEANER_PERIOD = 1000;
+
   private int maxSize = DEFAULT_MAX_SIZE;
   private int maxWaitQueueSize = DEFAULT_MAX_WAIT_QUEUE_SIZE;
+  private long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+  private long maxLifetime = DEFAULT_MAX_LIFETIME;
+  private int minIdle = DEFAULT_MIN_IDLE;
+  private long poolCleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
+  private long acquireTimeout = DEFAULT_ACQUIRE_TIMEOUT;
+  private boolean multiplexing = DEFAULT_MULTIPLEXING;
+  private boolean resetOnRelease = DEFAULT_RESET_ON_RELEASE;
+  private int maxConnecting = DEFAULT_MAX_CONNECTING;
+  private long connectBackoff = DEFAULT_CONNECT_BACKOFF;
+  private long maxConnectBackoff = DEFAULT_MAX_CONNECT_BACKOFF;
+  private int circuitBreakerThreshold = DEFAULT_CIRCUIT_BREAKER_THRESHOLD;
+  private boolean adaptiveSizing = DEFAULT_ADAPTIVE_SIZING;
+  private int eventLoopSize = DEFAULT_EVENT_LOOP_SIZE;
+  private String metricsName = DEFAULT_METRICS_NAME;
 
   public PoolOptions() {
   }
@@ -51,6 +140,20 @@ public class PoolOptions {
   public PoolOptions(PoolOptions other) {
     maxSize = other.maxSize;
     maxWaitQueueSize = other.maxWaitQueueSize;
+    idleTimeout = other.idleTimeout;
+    maxLifetime = other.maxLifetime;
+    minIdle = other.minIdle;
+    poolCleanerPeriod = other.poolCleanerPeriod;
+    acquireTimeout = other.acquireTimeout;
+    multiplexing = other.multiplexing;
+    resetOnRelease = other.resetOnRelease;
+    maxConnecting = other.maxConnecting;
+    connectBackoff = other.connectBackoff;
+    maxConnectBackoff = other.maxConnectBackoff;
+    circuitBreakerThreshold = other.circuitBreakerThreshold;
+    adaptiveSizing = other.adaptiveSizing;
+    eventLoopSize = other.eventLoopSize;
+    metricsName = other.metricsName;
   }
 
   /**
@@ -93,6 +196,320 @@ public class PoolOptions {
     return this;
   }
 
+  /**
+   * @return the connection idle timeout in milliseconds
+   */
+  public long getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  /**
+   * Set the amount of time in milliseconds a connection can stay idle in the pool before it is closed. A value
+   * of {@code 0} disables idle eviction.
+   *
+   * @param idleTimeout the idle timeout in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setIdleTimeout(long idleTimeout) {
+    if (idleTimeout < 0) {
+      throw new IllegalArgumentException("Idle timeout cannot be negative");
+    }
+    this.idleTimeout = idleTimeout;
+    return this;
+  }
+
+  /**
+   * @return the connection max lifetime in milliseconds
+   */
+  public long getMaxLifetime() {
+    return maxLifetime;
+  }
+
+  /**
+   * Set the maximum amount of time in milliseconds a connection is kept by the pool, after this time the connection
+   * is closed once it is returned to the pool. A value of {@code 0} means no limit.
+   *
+   * @param maxLifetime the max lifetime in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxLifetime(long maxLifetime) {
+    if (maxLifetime < 0) {
+      throw new IllegalArgumentException("Max lifetime cannot be negative");
+    }
+    this.maxLifetime = maxLifetime;
+    return this;
+  }
+
+  /**
+   * @return the minimum number of idle connections
+   */
+  public int getMinIdle() {
+    return minIdle;
+  }
+
+  /**
+   * Set the minimum number of idle connections the pool tries to maintain, idle connections are never evicted
+   * below this number.
+   *
+   * @param minIdle the minimum number of idle connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMinIdle(int minIdle) {
+    if (minIdle < 0) {
+      throw new IllegalArgumentException("Min idle cannot be negative");
+    }
+    this.minIdle = minIdle;
+    return this;
+  }
+
+  /**
+   * @return the pool cleaner period in milliseconds
+   */
+  public long getPoolCleanerPeriod() {
+    return poolCleanerPeriod;
+  }
+
+  /**
+   * Set the period in milliseconds at which the pool checks for idle and expired connections.
+   *
+   * @param poolCleanerPeriod the pool cleaner period in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setPoolCleanerPeriod(long poolCleanerPeriod) {
+    if (poolCleanerPeriod <= 0) {
+      throw new IllegalArgumentException("Pool cleaner period must be > 0");
+    }
+    this.poolCleanerPeriod = poolCleanerPeriod;
+    return this;
+  }
+
+  /**
+   * @return the acquire timeout in milliseconds
+   */
+  public long getAcquireTimeout() {
+    return acquireTimeout;
+  }
+
+  /**
+   * Set the amount of time in milliseconds a request can wait for a connection before it is failed. A value
+   * of {@code 0} means the request waits until a connection is available.
+   *
+   * @param acquireTimeout the acquire timeout in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setAcquireTimeout(long acquireTimeout) {
+    if (acquireTimeout < 0) {
+      throw new IllegalArgumentException("Acquire timeout cannot be negative");
+    }
+    this.acquireTimeout = acquireTimeout;
+    return this;
+  }
+
+  /**
+   * @return whether the pool selects the least loaded connection
+   */
+  public boolean isMultiplexing() {
+    return multiplexing;
+  }
+
+  /**
+   * Set the multiplexing mode, when enabled the pool hands out the connection with the fewest in-flight commands
+   * and opens a new connection rather than pipelining behind a busy one until the pool is full. Once the pool is
+   * full, commands are pipelined on the least loaded connection up to its pipelining limit. This mode cannot be
+   * combined with the reset on release mode, the pool rejects the combination when it is created.
+   *
+   * @param multiplexing true to enable the multiplexing mode
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMultiplexing(boolean multiplexing) {
+    this.multiplexing = multiplexing;
+    return this;
+  }
+
+  /**
+   * @return whether the session state of a connection is reset when the connection is released to the pool
+   */
+  public boolean isResetOnRelease() {
+    return resetOnRelease;
+  }
+
+  /**
+   * Set the reset on release mode, when enabled the session state of a connection released to the pool is reset
+   * so it does not leak to the next borrower. The reset is pipelined before the commands of the next borrower and
+   * is skipped when the previous borrower only executed queries and data manipulation statements. The session and
+   * warm-up statements of the connection are executed again after the reset. A connection that fails to reset is
+   * closed. This mode cannot be combined with the multiplexing mode since a multiplexed connection is shared by
+   * several borrowers, the pool rejects the combination when it is created.
+   * <p/>
+   * Statements are classified by their leading keyword: a {@code SELECT} calling a function that changes the session
+   * state, e.g {@code SELECT set_config(...)} or {@code SELECT pg_advisory_lock(...)}, is considered as a query
+   * and does not trigger the reset.
+   *
+   * @param resetOnRelease true to enable the reset on release mode
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setResetOnRelease(boolean resetOnRelease) {
+    this.resetOnRelease = resetOnRelease;
+    return this;
+  }
+
+  /**
+   * @return the max number of connections being opened concurrently
+   */
+  public int getMaxConnecting() {
+    return maxConnecting;
+  }
+
+  /**
+   * Set the max number of connections the pool opens concurrently, the other requests wait for these connections
+   * to be established. A value of {@code 0} means no limit.
+   *
+   * @param maxConnecting the max number of connections being opened
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxConnecting(int maxConnecting) {
+    if (maxConnecting < 0) {
+      throw new IllegalArgumentException("Max connecting cannot be negative");
+    }
+    this.maxConnecting = maxConnecting;
+    return this;
+  }
+
+  /**
+   * @return the connect backoff in milliseconds
+   */
+  public long getConnectBackoff() {
+    return connectBackoff;
+  }
+
+  /**
+   * Set the amount of time in milliseconds the pool waits before opening a connection after a connection failed,
+   * the time doubles on each consecutive failure up to the {@link #getMaxConnectBackoff() max connect backoff}
+   * and a random jitter of up to half the time is subtracted. A value of {@code 0} means the pool opens a
+   * connection again without waiting.
+   *
+   * @param connectBackoff the connect backoff in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setConnectBackoff(long connectBackoff) {
+    if (connectBackoff < 0) {
+      throw new IllegalArgumentException("Connect backoff cannot be negative");
+    }
+    this.connectBackoff = connectBackoff;
+    return this;
+  }
+
+  /**
+   * @return the max connect backoff in milliseconds
+   */
+  public long getMaxConnectBackoff() {
+    return maxConnectBackoff;
+  }
+
+  /**
+   * Set the max amount of time in milliseconds the pool waits before opening a connection after consecutive
+   * connection failures.
+   *
+   * @param maxConnectBackoff the max connect backoff in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMaxConnectBackoff(long maxConnectBackoff) {
+    if (maxConnectBackoff < 0) {
+      throw new IllegalArgumentException("Max connect backoff cannot be negative");
+    }
+    this.maxConnectBackoff = maxConnectBackoff;
+    return this;
+  }
+
+  /**
+   * @return the number of consecutive connection failures opening the circuit breaker
+   */
+  public int getCircuitBreakerThreshold() {
+    return circuitBreakerThreshold;
+  }
+
+  /**
+   * Set the number of consecutive connection failures opening the circuit breaker of the pool. While the circuit
+   * is open, the requests that cannot get an available connection fail immediately, after the connect backoff a
+   * single connection is attempted and the circuit closes when it succeeds. When no connect backoff is set, the
+   * open circuit uses a {@link #CIRCUIT_BREAKER_BACKOFF} backoff. A value of {@code 0} disables the circuit breaker.
+   *
+   * @param circuitBreakerThreshold the number of consecutive failures
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setCircuitBreakerThreshold(int circuitBreakerThreshold) {
+    if (circuitBreakerThreshold < 0) {
+      throw new IllegalArgumentException("Circuit breaker threshold cannot be negative");
+    }
+    this.circuitBreakerThreshold = circuitBreakerThreshold;
+    return this;
+  }
+
+  /**
+   * @return whether the pool adapts its size to the observed latency
+   */
+  public boolean isAdaptiveSizing() {
+    return adaptiveSizing;
+  }
+
+  /**
+   * Set the adaptive sizing mode, when enabled the pool adjusts the number of connections it can open between
+   * the min idle connections (at least one) and the max size: the limit starts at the max size and shrinks when the
+   * round trip latency rises, which signals that the database is overloaded, or when connections are no longer
+   * needed, it grows again when the in-flight commands and the requests waiting for a connection exceed it.
+   *
+   * @param adaptiveSizing true to enable the adaptive sizing mode
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setAdaptiveSizing(boolean adaptiveSizing) {
+    this.adaptiveSizing = adaptiveSizing;
+    return this;
+  }
+
+  /**
+   * @return the number of event loops the pool is sharded on
+   */
+  public int getEventLoopSize() {
+    return eventLoopSize;
+  }
+
+  /**
+   * Set the number of event loops the pool is sharded on. When the size is {@code 0} the pool uses a single
+   * event loop, otherwise the pool creates one slice per event loop, each slice owning its share of the
+   * max size, of the min idle connections and of the max wait queue size.
+   *
+   * @param eventLoopSize the number of event loops
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setEventLoopSize(int eventLoopSize) {
+    if (eventLoopSize < 0) {
+      throw new IllegalArgumentException("Event loop size cannot be negative");
+    }
+    this.eventLoopSize = eventLoopSize;
+    return this;
+  }
+
+  /**
+   * @return the name used to report the pool metrics
+   */
+  public String getMetricsName() {
+    return metricsName;
+  }
+
+  /**
+   * Set the name used to report the pool metrics.
+   *
+   * @param metricsName the metrics name
+   * @return a reference to this, so the API can be used fluently
+   */
+  public PoolOptions setMetricsName(String metricsName) {
+    if (metricsName == null) {
+      throw new IllegalArgumentException("Metrics name cannot be null");
+    }
+    this.metricsName = metricsName;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = new JsonObject();
     PoolOptionsConverter.toJson(this, json);
@@ -108,6 +525,20 @@ public class PoolOptions {
     PoolOptions that = (PoolOptions) o;
 
     if (maxSize != that.maxSize) return false;
+    if (idleTimeout != that.idleTimeout) return false;
+    if (maxLifetime != that.maxLifetime) return false;
+    if (minIdle != that.minIdle) return false;
+    if (poolCleanerPeriod != that.poolCleanerPeriod) return false;
+    if (acquireTimeout != that.acquireTimeout) return false;
+    if (multiplexing != that.multiplexing) return false;
+    if (resetOnRelease != that.resetOnRelease) return false;
+    if (maxConnecting != that.maxConnecting) return false;
+    if (connectBackoff != that.connectBackoff) return false;
+    if (maxConnectBackoff != that.maxConnectBackoff) return false;
+    if (circuitBreakerThreshold != that.circuitBreakerThreshold) return false;
+    if (adaptiveSizing != that.adaptiveSizing) return false;
+    if (eventLoopSize != that.eventLoopSize) return false;
+    if (!metricsName.equals(that.metricsName)) return false;
 
     return true;
   }
@@ -116,6 +547,20 @@ public class PoolOptions {
   public int hashCode() {
     int result = super.hashCode();
     result = 31 * result + maxSize;
+    result = 31 * result + Long.hashCode(idleTimeout);
+    result = 31 * result + Long.hashCode(maxLifetime);
+    result = 31 * result + minIdle;
+    result = 31 * result + Long.hashCode(poolCleanerPeriod);
+    result = 31 * result + Long.hashCode(acquireTimeout);
+    result = 31 * result + (multiplexing ? 1 : 0);
+    result = 31 * result + (resetOnRelease ? 1 : 0);
+    result = 31 * result + maxConnecting;
+    result = 31 * result + Long.hashCode(connectBackoff);
+    result = 31 * result + Long.hashCode(maxConnectBackoff);
+    result = 31 * result + circuitBreakerThreshold;
+    result = 31 * result + (adaptiveSizing ? 1 : 0);
+    result = 31 * result + eventLoopSize;
+    result = 31 * result + metricsName.hashCode();
     return result;
   }
 }
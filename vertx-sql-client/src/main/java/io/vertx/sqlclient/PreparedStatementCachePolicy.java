@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient;
+
+/**
+ * The replacement policy of the prepared statement cache of a connection.
+ */
+public enum PreparedStatementCachePolicy {
+
+  /**
+   * evict the least recently used statement to make room for a new statement.
+   */
+  LRU,
+
+  /**
+   * like {@link #LRU}, but a new statement is cached only when it is used at least as frequently as the least
+   * recently used statement, so statements executed once do not evict frequently used statements.
+   */
+  TINY_LFU
+
+}
@@ -24,10 +24,25 @@ import java.math.BigDecimal;
 import java.time.*;
 import java.time.temporal.Temporal;
 import java.util.UUID;
+import java.util.stream.Collector;
 
 @VertxGen
 public interface Row extends Tuple {
 
+  /**
+   * Wrap a {@code collector} that does not retain the rows it accumulates: a single row is then refilled
+   * for each row of the result instead of allocating a new row.
+   *
+   * The row is only valid during the call to the accumulator, the collector must copy the values it keeps.
+   *
+   * @param collector the collector
+   * @return the flyweight collector
+   */
+  @GenIgnore
+  static <A, R> RowCollector<A, R> flyweight(Collector<Row, A, R> collector) {
+    return new RowCollector<>(collector);
+  }
+
   /**
    * Get a column name at {@code pos}.
    *
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient;
+
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A collector that does not retain the rows it accumulates, the client refills a single row for each row
+ * of the result, see {@link Row#flyweight(Collector)}.
+ */
+public final class RowCollector<A, R> implements Collector<Row, A, R> {
+
+  private final Collector<Row, A, R> collector;
+
+  RowCollector(Collector<Row, A, R> collector) {
+    this.collector = collector;
+  }
+
+  @Override
+  public Supplier<A> supplier() {
+    return collector.supplier();
+  }
+
+  @Override
+  public BiConsumer<A, Row> accumulator() {
+    return collector.accumulator();
+  }
+
+  @Override
+  public BinaryOperator<A> combiner() {
+    return collector.combiner();
+  }
+
+  @Override
+  public Function<A, R> finisher() {
+    return collector.finisher();
+  }
+
+  @Override
+  public Set<Characteristics> characteristics() {
+    return collector.characteristics();
+  }
+}
@@ -44,6 +44,18 @@ public interface SqlClient {
   @Fluent
   SqlClient query(String sql, Handler<AsyncResult<RowSet>> handler);
 
+  /**
+   * Execute a simple query, the query fails and is cancelled on the server when it does not complete within the
+   * {@code timeout}, see {@link SqlConnectOptions#setQueryTimeout(long)}.
+   *
+   * @param sql the query SQL
+   * @param timeout the query timeout in milliseconds, {@code 0} uses the query timeout of the connect options
+   * @param handler the handler notified with the execution result
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  SqlClient query(String sql, long timeout, Handler<AsyncResult<RowSet>> handler);
+
   /**
    * Execute a simple query.
    *
@@ -87,6 +99,19 @@ public interface SqlClient {
   @Fluent
   SqlClient preparedQuery(String sql, Tuple arguments, Handler<AsyncResult<RowSet>> handler);
 
+  /**
+   * Prepare and execute a query, the query fails and is cancelled on the server when it does not complete within
+   * the {@code timeout}, see {@link SqlConnectOptions#setQueryTimeout(long)}.
+   *
+   * @param sql the prepared query SQL
+   * @param arguments the list of arguments
+   * @param timeout the query timeout in milliseconds, {@code 0} uses the query timeout of the connect options
+   * @param handler the handler notified with the execution result
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  SqlClient preparedQuery(String sql, Tuple arguments, long timeout, Handler<AsyncResult<RowSet>> handler);
+
   /**
    * Prepare and execute a query.
    *
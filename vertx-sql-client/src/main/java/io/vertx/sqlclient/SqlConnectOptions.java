@@ -1,11 +1,16 @@
 package io.vertx.sqlclient;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.NetClientOptions;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Connect options for configuring {@link SqlConnection} or {@link Pool}.
@@ -15,15 +20,40 @@ public abstract class SqlConnectOptions extends NetClientOptions {
   public static final boolean DEFAULT_CACHE_PREPARED_STATEMENTS = false;
   public static final int DEFAULT_PREPARED_STATEMENT_CACHE_MAX_SIZE = 256;
   public static final int DEFAULT_PREPARED_STATEMENT_CACHE_SQL_LIMIT = 2048;
+  public static final PreparedStatementCachePolicy DEFAULT_PREPARED_STATEMENT_CACHE_POLICY = PreparedStatementCachePolicy.LRU;
+  public static final int DEFAULT_PREPARE_THRESHOLD = 0;
+  public static final int DEFAULT_FLUSH_COALESCING_MAX_BYTES = 0;
+  public static final long DEFAULT_FLUSH_COALESCING_MAX_DELAY = 0;
+  public static final long DEFAULT_QUERY_TIMEOUT = 0;
+  public static final int DEFAULT_MAX_PENDING_QUEUE_SIZE = -1;
+  public static final boolean DEFAULT_PIPELINED_TRANSACTIONS = false;
+  public static final long DEFAULT_SLOW_QUERY_THRESHOLD = 0;
+  public static final double DEFAULT_SLOW_QUERY_SAMPLE_RATE = 1.0;
+  public static final HostSelection DEFAULT_HOST_SELECTION = HostSelection.ORDERED;
+  public static final long DEFAULT_HOST_BACKOFF = 1000;
 
   private String host;
   private int port;
+  private List<String> hosts = new ArrayList<>();
+  private HostSelection hostSelection = DEFAULT_HOST_SELECTION;
+  private long hostBackoff = DEFAULT_HOST_BACKOFF;
   private String user;
   private String password;
   private String database;
   private boolean cachePreparedStatements = DEFAULT_CACHE_PREPARED_STATEMENTS;
   private int preparedStatementCacheMaxSize = DEFAULT_PREPARED_STATEMENT_CACHE_MAX_SIZE;
   private int preparedStatementCacheSqlLimit = DEFAULT_PREPARED_STATEMENT_CACHE_SQL_LIMIT;
+  private PreparedStatementCachePolicy preparedStatementCachePolicy = DEFAULT_PREPARED_STATEMENT_CACHE_POLICY;
+  private int prepareThreshold = DEFAULT_PREPARE_THRESHOLD;
+  private int flushCoalescingMaxBytes = DEFAULT_FLUSH_COALESCING_MAX_BYTES;
+  private long flushCoalescingMaxDelay = DEFAULT_FLUSH_COALESCING_MAX_DELAY;
+  private long queryTimeout = DEFAULT_QUERY_TIMEOUT;
+  private int maxPendingQueueSize = DEFAULT_MAX_PENDING_QUEUE_SIZE;
+  private boolean pipelinedTransactions = DEFAULT_PIPELINED_TRANSACTIONS;
+  private List<String> sessionStatements = new ArrayList<>();
+  private List<String> warmUpStatements = new ArrayList<>();
+  private long slowQueryThreshold = DEFAULT_SLOW_QUERY_THRESHOLD;
+  private double slowQuerySampleRate = DEFAULT_SLOW_QUERY_SAMPLE_RATE;
   private Map<String, String> properties;
 
   public SqlConnectOptions() {
@@ -35,18 +65,35 @@ public abstract class SqlConnectOptions extends NetClientOptions {
     super(json);
     init();
     SqlConnectOptionsConverter.fromJson(json, this);
+    fromJson(json.getJsonArray("hosts"), this::addHost);
+    fromJson(json.getJsonArray("sessionStatements"), this::addSessionStatement);
+    fromJson(json.getJsonArray("warmUpStatements"), this::addWarmUpStatement);
   }
 
   public SqlConnectOptions(SqlConnectOptions other) {
     super(other);
     this.host = other.host;
     this.port = other.port;
+    this.hosts = new ArrayList<>(other.hosts);
+    this.hostSelection = other.hostSelection;
+    this.hostBackoff = other.hostBackoff;
     this.user = other.user;
     this.password = other.password;
     this.database = other.database;
     this.cachePreparedStatements = other.cachePreparedStatements;
     this.preparedStatementCacheMaxSize = other.preparedStatementCacheMaxSize;
     this.preparedStatementCacheSqlLimit = other.preparedStatementCacheSqlLimit;
+    this.preparedStatementCachePolicy = other.preparedStatementCachePolicy;
+    this.prepareThreshold = other.prepareThreshold;
+    this.flushCoalescingMaxBytes = other.flushCoalescingMaxBytes;
+    this.flushCoalescingMaxDelay = other.flushCoalescingMaxDelay;
+    this.queryTimeout = other.queryTimeout;
+    this.maxPendingQueueSize = other.maxPendingQueueSize;
+    this.pipelinedTransactions = other.pipelinedTransactions;
+    this.sessionStatements = new ArrayList<>(other.sessionStatements);
+    this.warmUpStatements = new ArrayList<>(other.warmUpStatements);
+    this.slowQueryThreshold = other.slowQueryThreshold;
+    this.slowQuerySampleRate = other.slowQuerySampleRate;
     this.properties = new HashMap<>(other.properties);
   }
 
@@ -94,6 +141,90 @@ public abstract class SqlConnectOptions extends NetClientOptions {
     return this;
   }
 
+  /**
+   * Get the hosts for connecting to the server.
+   *
+   * @return the hosts
+   */
+  @GenIgnore
+  public List<String> getHosts() {
+    return hosts;
+  }
+
+  /**
+   * Specify the hosts for connecting to the server, each host is formatted as {@code host}, {@code host:port} or
+   * {@code [ipv6]:port}, the {@link #getPort() port} is used when the host has no port. When hosts are specified,
+   * they are used instead of the {@link #getHost() host}, a new connection tries the hosts in the order defined
+   * by the {@link #getHostSelection() host selection} until it succeeds.
+   *
+   * @param hosts the hosts to specify
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public SqlConnectOptions setHosts(List<String> hosts) {
+    checkParameterNonNull(hosts, "Hosts can not be null");
+    this.hosts = hosts;
+    return this;
+  }
+
+  /**
+   * Add a host for connecting to the server, see {@link #setHosts(List)}.
+   *
+   * @param host the host to add
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public SqlConnectOptions addHost(String host) {
+    checkParameterNonNull(host, "Host can not be null");
+    this.hosts.add(host);
+    return this;
+  }
+
+  /**
+   * Get the order in which the hosts are tried.
+   *
+   * @return the host selection
+   */
+  public HostSelection getHostSelection() {
+    return hostSelection;
+  }
+
+  /**
+   * Specify the order in which the hosts are tried.
+   *
+   * @param hostSelection the host selection to specify
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setHostSelection(HostSelection hostSelection) {
+    checkParameterNonNull(hostSelection, "Host selection can not be null");
+    this.hostSelection = hostSelection;
+    return this;
+  }
+
+  /**
+   * Get the time in milliseconds a host is tried after the other hosts once it failed.
+   *
+   * @return the host backoff
+   */
+  public long getHostBackoff() {
+    return hostBackoff;
+  }
+
+  /**
+   * Specify the time in milliseconds a host is tried after the other hosts once a connection to this host failed,
+   * the time doubles on each consecutive failure up to 32 times this value and is reset when a connection succeeds.
+   *
+   * @param hostBackoff the host backoff to specify
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setHostBackoff(long hostBackoff) {
+    if (hostBackoff < 0) {
+      throw new IllegalArgumentException("Host backoff cannot be negative");
+    }
+    this.hostBackoff = hostBackoff;
+    return this;
+  }
+
   /**
    * Get the user account to be used for the authentication.
    *
@@ -217,6 +348,312 @@ public abstract class SqlConnectOptions extends NetClientOptions {
     return this;
   }
 
+  /**
+   * Get the replacement policy of the prepared statement cache.
+   *
+   * @return the policy
+   */
+  public PreparedStatementCachePolicy getPreparedStatementCachePolicy() {
+    return preparedStatementCachePolicy;
+  }
+
+  /**
+   * Set the replacement policy of the prepared statement cache.
+   *
+   * @param preparedStatementCachePolicy the policy to set
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setPreparedStatementCachePolicy(PreparedStatementCachePolicy preparedStatementCachePolicy) {
+    checkParameterNonNull(preparedStatementCachePolicy, "Prepared statement cache policy can not be null");
+    this.preparedStatementCachePolicy = preparedStatementCachePolicy;
+    return this;
+  }
+
+  /**
+   * Get the number of times a SQL is prepared by a connection before its prepared statement is cached.
+   *
+   * @return the threshold
+   */
+  public int getPrepareThreshold() {
+    return prepareThreshold;
+  }
+
+  /**
+   * Set the number of times a SQL is prepared by a connection before its prepared statement is cached, until then
+   * the statement is not cached, e.g. PostgreSQL prepares it as an unnamed statement and MySQL closes it after its
+   * execution. This bounds the statements kept by the server to the SQL executed repeatedly. The values {@code 0}
+   * and {@code 1} cache the statement the first time.
+   * <p/>
+   * This option applies only when prepared statements are cached.
+   *
+   * @param prepareThreshold the threshold to set
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setPrepareThreshold(int prepareThreshold) {
+    if (prepareThreshold < 0) {
+      throw new IllegalArgumentException("Prepare threshold must be >= 0");
+    }
+    this.prepareThreshold = prepareThreshold;
+    return this;
+  }
+
+  /**
+   * Get the number of bytes above which the commands written to the connection are flushed without waiting.
+   *
+   * @return the number of bytes
+   */
+  public int getFlushCoalescingMaxBytes() {
+    return flushCoalescingMaxBytes;
+  }
+
+  /**
+   * Set the number of bytes above which the commands written to the connection are flushed without waiting, a
+   * value greater than {@code 0} enables the flush coalescing: the commands scheduled during an event loop
+   * iteration are sent with a single flush instead of one flush per command. The value {@code 0} disables the
+   * flush coalescing.
+   *
+   * @param flushCoalescingMaxBytes the number of bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setFlushCoalescingMaxBytes(int flushCoalescingMaxBytes) {
+    if (flushCoalescingMaxBytes < 0) {
+      throw new IllegalArgumentException("Flush coalescing max bytes must be >= 0");
+    }
+    this.flushCoalescingMaxBytes = flushCoalescingMaxBytes;
+    return this;
+  }
+
+  /**
+   * Get the maximum delay in microseconds a coalesced flush is deferred.
+   *
+   * @return the delay
+   */
+  public long getFlushCoalescingMaxDelay() {
+    return flushCoalescingMaxDelay;
+  }
+
+  /**
+   * Set the maximum delay in microseconds a coalesced flush is deferred, the value {@code 0} flushes at the end
+   * of the current event loop iteration.
+   *
+   * @param flushCoalescingMaxDelay the delay
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setFlushCoalescingMaxDelay(long flushCoalescingMaxDelay) {
+    if (flushCoalescingMaxDelay < 0) {
+      throw new IllegalArgumentException("Flush coalescing max delay must be >= 0");
+    }
+    this.flushCoalescingMaxDelay = flushCoalescingMaxDelay;
+    return this;
+  }
+
+  /**
+   * Get the time in milliseconds a query is allowed to execute.
+   *
+   * @return the query timeout
+   */
+  public long getQueryTimeout() {
+    return queryTimeout;
+  }
+
+  /**
+   * Set the time in milliseconds a query is allowed to execute, each query executed by a {@code SqlClient}, a
+   * {@code PreparedQuery} or a {@code Pool} fails when it does not complete within this time and its execution
+   * is cancelled on the server, the connection remains usable. The value {@code 0} disables the query timeout.
+   * A timeout passed to the {@code query} or {@code preparedQuery} methods of a client overrides this timeout.
+   * <p/>
+   * The time starts when the query is sent to the server, the time spent waiting for a pooled connection or
+   * behind the pending commands of the connection is not counted. A query with other queries pipelined behind it
+   * fails without being cancelled since the cancellation could reach the server after the query completed and
+   * cancel the next one, the commands sent after a cancelled query wait until the cancellation is sent.
+   *
+   * @param queryTimeout the query timeout
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setQueryTimeout(long queryTimeout) {
+    if (queryTimeout < 0) {
+      throw new IllegalArgumentException("Query timeout must be >= 0");
+    }
+    this.queryTimeout = queryTimeout;
+    return this;
+  }
+
+  /**
+   * Get the maximum number of commands waiting to be sent on a connection.
+   *
+   * @return the maximum pending queue size
+   */
+  public int getMaxPendingQueueSize() {
+    return maxPendingQueueSize;
+  }
+
+  /**
+   * Set the maximum number of commands waiting to be sent on a connection, once reached the queries are rejected
+   * and {@link SqlConnection#writeQueueFull()} returns {@code true} until the queue drains. The value {@code -1}
+   * means an unbounded queue.
+   *
+   * @param maxPendingQueueSize the maximum pending queue size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setMaxPendingQueueSize(int maxPendingQueueSize) {
+    if (maxPendingQueueSize < -1) {
+      throw new IllegalArgumentException("Max pending queue size must be >= -1");
+    }
+    this.maxPendingQueueSize = maxPendingQueueSize;
+    return this;
+  }
+
+  /**
+   * Get whether the statements of a transaction are pipelined.
+   *
+   * @return the value
+   */
+  public boolean getPipelinedTransactions() {
+    return pipelinedTransactions;
+  }
+
+  /**
+   * Set whether the statements of a transaction are pipelined. When enabled {@code BEGIN}, the statements and
+   * {@code COMMIT} are sent without waiting for the result of the previous statement. When a statement fails
+   * the transaction, the results of the statements sent after it are discarded and the transaction is rolled back.
+   *
+   * @param pipelinedTransactions true if the statements of a transaction should be pipelined
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setPipelinedTransactions(boolean pipelinedTransactions) {
+    this.pipelinedTransactions = pipelinedTransactions;
+    return this;
+  }
+
+  /**
+   * Get the statements executed by a new connection to initialize its session.
+   *
+   * @return the statements
+   */
+  @GenIgnore
+  public List<String> getSessionStatements() {
+    return sessionStatements;
+  }
+
+  /**
+   * Set the statements executed by a new connection to initialize its session, e.g. {@code SET} statements. The
+   * statements and the {@link #setWarmUpStatements(List) warm-up statements} are pipelined right after the connection
+   * startup, before the connection is used. A failing statement fails the connection. The statements are executed
+   * again after the pool resets the session of a connection.
+   *
+   * @param sessionStatements the statements to set
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public SqlConnectOptions setSessionStatements(List<String> sessionStatements) {
+    checkParameterNonNull(sessionStatements, "Session statements can not be null");
+    this.sessionStatements = sessionStatements;
+    return this;
+  }
+
+  /**
+   * Add a statement executed by a new connection to initialize its session, see {@link #setSessionStatements(List)}.
+   *
+   * @param sessionStatement the statement to add
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public SqlConnectOptions addSessionStatement(String sessionStatement) {
+    checkParameterNonNull(sessionStatement, "Session statement can not be null");
+    this.sessionStatements.add(sessionStatement);
+    return this;
+  }
+
+  /**
+   * Get the SQL prepared by a new connection to warm up its prepared statement cache.
+   *
+   * @return the SQL
+   */
+  @GenIgnore
+  public List<String> getWarmUpStatements() {
+    return warmUpStatements;
+  }
+
+  /**
+   * Set the SQL prepared by a new connection to warm up its prepared statement cache, so the first queries executed
+   * on the connection do not pay the preparation round trip. The statements are prepared after the
+   * {@link #setSessionStatements(List) session statements}, before the connection is used. A statement failing
+   * to prepare fails the connection.
+   * <p/>
+   * This option applies only when prepared statements are cached.
+   *
+   * @param warmUpStatements the SQL to set
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public SqlConnectOptions setWarmUpStatements(List<String> warmUpStatements) {
+    checkParameterNonNull(warmUpStatements, "Warm-up statements can not be null");
+    this.warmUpStatements = warmUpStatements;
+    return this;
+  }
+
+  /**
+   * Add a SQL prepared by a new connection to warm up its prepared statement cache, see
+   * {@link #setWarmUpStatements(List)}.
+   *
+   * @param warmUpStatement the SQL to add
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public SqlConnectOptions addWarmUpStatement(String warmUpStatement) {
+    checkParameterNonNull(warmUpStatement, "Warm-up statement can not be null");
+    this.warmUpStatements.add(warmUpStatement);
+    return this;
+  }
+
+  /**
+   * Get the time in milliseconds above which a query is logged as slow.
+   *
+   * @return the slow query threshold
+   */
+  public long getSlowQueryThreshold() {
+    return slowQueryThreshold;
+  }
+
+  /**
+   * Set the time in milliseconds above which a query is logged as slow along with the time spent in each phase:
+   * waiting for a pooled connection, waiting behind the pipelining limit, encoding, executing on the server and
+   * decoding. The value {@code 0} disables the slow query log.
+   *
+   * @param slowQueryThreshold the slow query threshold
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setSlowQueryThreshold(long slowQueryThreshold) {
+    if (slowQueryThreshold < 0) {
+      throw new IllegalArgumentException("Slow query threshold must be >= 0");
+    }
+    this.slowQueryThreshold = slowQueryThreshold;
+    return this;
+  }
+
+  /**
+   * Get the fraction of the slow queries that are logged.
+   *
+   * @return the slow query sample rate
+   */
+  public double getSlowQuerySampleRate() {
+    return slowQuerySampleRate;
+  }
+
+  /**
+   * Set the fraction of the slow queries that are logged, between {@code 0} and {@code 1}.
+   *
+   * @param slowQuerySampleRate the slow query sample rate
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SqlConnectOptions setSlowQuerySampleRate(double slowQuerySampleRate) {
+    if (slowQuerySampleRate < 0 || slowQuerySampleRate > 1) {
+      throw new IllegalArgumentException("Slow query sample rate must be between 0 and 1");
+    }
+    this.slowQuerySampleRate = slowQuerySampleRate;
+    return this;
+  }
+
   /**
    * @return the value of current connection properties
    */
@@ -255,9 +692,27 @@ public abstract class SqlConnectOptions extends NetClientOptions {
   public JsonObject toJson() {
     JsonObject json = super.toJson();
     SqlConnectOptionsConverter.toJson(this, json);
+    json.put("hosts", toJson(hosts));
+    json.put("sessionStatements", toJson(sessionStatements));
+    json.put("warmUpStatements", toJson(warmUpStatements));
     return json;
   }
 
+  // The list properties are converted here, the generated converter uses unchecked casts for them
+  private static void fromJson(JsonArray array, Consumer<String> adder) {
+    if (array != null) {
+      for (int i = 0;i < array.size();i++) {
+        adder.accept(array.getString(i));
+      }
+    }
+  }
+
+  private static JsonArray toJson(List<String> list) {
+    JsonArray array = new JsonArray();
+    list.forEach(array::add);
+    return array;
+  }
+
   /**
    * Initialize with the default options.
    */
@@ -62,6 +62,25 @@ public interface SqlConnection extends SqlClient {
   @Fluent
   SqlConnection closeHandler(Handler<Void> handler);
 
+  /**
+   * This will return {@code true} when the commands waiting to be sent on this connection reached the
+   * {@link SqlConnectOptions#setMaxPendingQueueSize(int) maximum}, further queries are then rejected until the
+   * queue drains.
+   *
+   * @return {@code true} if the pending command queue is full
+   */
+  boolean writeQueueFull();
+
+  /**
+   * Set a drain handler on the connection. The drain handler will get called when the pending command queue has
+   * been reduced to half its maximum after {@link #writeQueueFull()} returned {@code true}.
+   *
+   * @param handler the handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  SqlConnection drainHandler(Handler<Void> handler);
+
   /**
    * Begin a transaction and returns a {@link Transaction} for controlling and tracking
    * this transaction.
@@ -92,6 +111,9 @@ public interface SqlConnection extends SqlClient {
   @Override
   SqlConnection query(String sql, Handler<AsyncResult<RowSet>> handler);
 
+  @Override
+  SqlConnection query(String sql, long timeout, Handler<AsyncResult<RowSet>> handler);
+
   @Override
   @GenIgnore
   <R> SqlConnection query(String sql, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
@@ -99,6 +121,9 @@ public interface SqlConnection extends SqlClient {
   @Override
   SqlConnection preparedQuery(String sql, Tuple arguments, Handler<AsyncResult<RowSet>> handler);
 
+  @Override
+  SqlConnection preparedQuery(String sql, Tuple arguments, long timeout, Handler<AsyncResult<RowSet>> handler);
+
   @Override
   @GenIgnore
   <R> SqlConnection preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
@@ -71,6 +71,9 @@ public interface Transaction extends SqlClient {
   @Override
   Transaction query(String sql, Handler<AsyncResult<RowSet>> handler);
 
+  @Override
+  Transaction query(String sql, long timeout, Handler<AsyncResult<RowSet>> handler);
+
   @Override
   @GenIgnore
   <R> Transaction query(String sql, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
@@ -85,6 +88,9 @@ public interface Transaction extends SqlClient {
   @Override
   Transaction preparedQuery(String sql, Tuple arguments, Handler<AsyncResult<RowSet>> handler);
 
+  @Override
+  Transaction preparedQuery(String sql, Tuple arguments, long timeout, Handler<AsyncResult<RowSet>> handler);
+
   @Override
   @GenIgnore
   <R> Transaction preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler);
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+/**
+ * An additive increase / multiplicative decrease limit of the number of connections of a pool.
+ *
+ * Command round trips are sampled in windows of {@link #WINDOW} samples with the demand of the pool, i.e the number
+ * of commands in-flight on the pool connections or the number of borrowed connections when it is greater, plus the
+ * number of requests waiting for a connection. A command pipelined behind other commands spends most of its round
+ * trip waiting for them, so its round trip is divided by its depth in the connection pipeline. At the end of each
+ * window:
+ *
+ * <ul>
+ *   <li>when the average round trip exceeds {@link #TOLERANCE} times the baseline round trip, the database is
+ *   overloaded and the limit is decreased multiplicatively</li>
+ *   <li>otherwise when the demand exceeded the limit, connections are the bottleneck and the limit is increased
+ *   by one</li>
+ *   <li>otherwise when the demand stayed below the limit, the limit is decreased by one</li>
+ * </ul>
+ *
+ * The baseline is the lowest observed round trip, it slowly follows the average so the limit adapts to a lasting
+ * change of the database latency.
+ *
+ * The limit starts at the maximum, a cold pool is not throttled before the first windows are sampled.
+ */
+public class AdaptiveLimit {
+
+  public static final int WINDOW = 32;
+  public static final int TOLERANCE = 2;
+
+  private final int min;
+  private final int max;
+  private int limit;
+  private long baseline = Long.MAX_VALUE;
+  private long rttSum;
+  private int samples;
+  private int maxDemand;
+
+  public AdaptiveLimit(int min, int max) {
+    if (min < 1 || min > max) {
+      throw new IllegalArgumentException("Invalid limit bounds [" + min + "," + max + "]");
+    }
+    this.min = min;
+    this.max = max;
+    this.limit = max;
+  }
+
+  public int limit() {
+    return limit;
+  }
+
+  /**
+   * Record a command round trip.
+   *
+   * @param nanos the round trip time in nanoseconds
+   * @param depth the depth of the command in the connection pipeline when it was scheduled, {@code 1} when no other
+   *              command was in-flight on the connection
+   * @param demand the demand of the pool when the command was scheduled
+   * @return whether the limit changed
+   */
+  public boolean roundTrip(long nanos, int depth, int demand) {
+    rttSum += nanos / Math.max(1, depth);
+    maxDemand = Math.max(maxDemand, demand);
+    if (++samples < WINDOW) {
+      return false;
+    }
+    long avg = rttSum / samples;
+    if (avg < baseline) {
+      baseline = avg;
+    } else {
+      baseline += (avg - baseline) / 16;
+    }
+    int prev = limit;
+    if (avg > baseline * TOLERANCE) {
+      limit = Math.max(min, limit * 3 / 4);
+    } else if (maxDemand > limit) {
+      limit = Math.min(max, limit + 1);
+    } else if (maxDemand < limit) {
+      limit = Math.max(min, limit - 1);
+    }
+    rttSum = 0;
+    samples = 0;
+    maxDemand = 0;
+    return limit != prev;
+  }
+}
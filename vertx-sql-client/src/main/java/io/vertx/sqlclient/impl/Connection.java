@@ -17,6 +17,8 @@
 
 package io.vertx.sqlclient.impl;
 
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
 import io.vertx.sqlclient.impl.command.CommandBase;
 
 public interface Connection {
@@ -27,12 +29,58 @@ public interface Connection {
 
   void schedule(CommandBase<?> cmd);
 
+  /**
+   * @return the number of commands scheduled on this connection that are not yet completed
+   */
+  int inflight();
+
   void close(Holder holder);
 
+  /**
+   * @return the maximum number of commands waiting to be sent on this connection or {@code -1} when unbounded
+   */
+  int maxPendingQueueSize();
+
+  /**
+   * @return whether the statements of a transaction on this connection are sent without waiting for the previous result
+   */
+  boolean pipelinedTransactions();
+
+  /**
+   * @return whether this connection caches the prepared statement of {@code sql}
+   */
+  boolean isStatementCached(String sql);
+
+  /**
+   * @return whether the commands waiting to be sent on this connection reached the maximum
+   */
+  boolean writeQueueFull();
+
+  /**
+   * Set an handler called when the commands waiting to be sent on this connection drop to half the maximum
+   * after {@link #writeQueueFull()} returned {@code true}.
+   *
+   * @param handler the handler
+   */
+  void drainHandler(Handler<Void> handler);
+
+  /**
+   * Reset the session state of this connection, the reset is executed after the scheduled commands.
+   *
+   * @param handler notified with the reset result
+   * @return {@code false} when this connection cannot reset its session state
+   */
+  boolean reset(Handler<AsyncResult<Void>> handler);
+
   int getProcessId();
 
   int getSecretKey();
 
+  /**
+   * @return the host this connection is connected to
+   */
+  HostSelector.Host getHost();
+
   interface Holder {
 
     void handleNotification(int processId, String channel, String payload);
@@ -19,6 +19,10 @@ package io.vertx.sqlclient.impl;
 
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.PrepareStatementCommand;
+import io.vertx.sqlclient.impl.command.QueryCommandBase;
+import io.vertx.sqlclient.spi.metrics.ConnectionPoolMetrics;
 import io.vertx.core.*;
 import io.vertx.core.impl.NoStackTraceThrowable;
 
@@ -26,6 +30,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 
 /**
@@ -33,15 +38,50 @@ import java.util.function.Consumer;
  */
 public class ConnectionPool {
 
+  /**
+   * Statements that do not change the session state, transactions must be ended before a connection is released.
+   */
+  private static final String[] SESSION_NEUTRAL_KEYWORDS = {
+    "SELECT", "SHOW", "VALUES", "TABLE", "WITH", "INSERT", "UPDATE", "DELETE", "BEGIN", "START", "COMMIT", "ROLLBACK", "END"
+  };
+
+  /**
+   * Schedule a task after a delay, the task must be executed on the pool thread.
+   */
+  public interface Scheduler {
+
+    void schedule(long delay, Runnable task);
+
+  }
+
   private final Consumer<Handler<AsyncResult<Connection>>> connector;
   private final int maxSize;
-  private final ArrayDeque<Promise<Connection>> waiters = new ArrayDeque<>();
+  private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
   private final Set<PooledConnection> all = new HashSet<>();
   private final ArrayDeque<PooledConnection> available = new ArrayDeque<>();
   private int size;
   private final int maxWaitQueueSize;
+  private final long idleTimeout;
+  private final long maxLifetime;
+  private final int minIdle;
+  private final long acquireTimeout;
+  private final boolean multiplexing;
+  private final boolean resetOnRelease;
+  private final AdaptiveLimit adaptive;
+  private final int maxConnecting;
+  private final long connectBackoff;
+  private final long maxConnectBackoff;
+  private final int circuitBreakerThreshold;
+  private final Scheduler scheduler;
+  private int connectFailures;
+  private long nextConnectAt;
+  private boolean retryScheduled;
+  private int inflight;
+  private final ConnectionPoolMetrics<Object> metrics;
   private boolean checkInProgress;
   private boolean closed;
+  private volatile boolean saturated;
+  private volatile int load;
 
   public ConnectionPool(Consumer<Handler<AsyncResult<Connection>>> connector) {
     this(connector, PoolOptions.DEFAULT_MAX_SIZE, PoolOptions.DEFAULT_MAX_WAIT_QUEUE_SIZE);
@@ -52,9 +92,43 @@ public class ConnectionPool {
   }
 
   public ConnectionPool(Consumer<Handler<AsyncResult<Connection>>> connector, int maxSize, int maxWaitQueueSize) {
-    this.maxSize = maxSize;
-    this.maxWaitQueueSize = maxWaitQueueSize;
+    this(connector, new PoolOptions().setMaxSize(maxSize).setMaxWaitQueueSize(maxWaitQueueSize));
+  }
+
+  public ConnectionPool(Consumer<Handler<AsyncResult<Connection>>> connector, PoolOptions options) {
+    this(connector, options, null);
+  }
+
+  public ConnectionPool(Consumer<Handler<AsyncResult<Connection>>> connector, PoolOptions options, ConnectionPoolMetrics<?> metrics) {
+    this(connector, options, metrics, null);
+  }
+
+  /**
+   * @param metrics the pool metrics or {@code null}
+   * @param scheduler the scheduler retrying to connect after the connect backoff or {@code null}, without scheduler
+   *                  the pool retries when a connection is acquired or released
+   */
+  @SuppressWarnings("unchecked")
+  public ConnectionPool(Consumer<Handler<AsyncResult<Connection>>> connector, PoolOptions options, ConnectionPoolMetrics<?> metrics, Scheduler scheduler) {
+    if (options.isMultiplexing() && options.isResetOnRelease()) {
+      throw new IllegalArgumentException("Reset on release cannot be used with multiplexing");
+    }
+    this.maxSize = options.getMaxSize();
+    this.maxWaitQueueSize = options.getMaxWaitQueueSize();
+    this.idleTimeout = options.getIdleTimeout();
+    this.maxLifetime = options.getMaxLifetime();
+    this.minIdle = Math.min(options.getMinIdle(), maxSize);
+    this.acquireTimeout = options.getAcquireTimeout();
+    this.multiplexing = options.isMultiplexing();
+    this.resetOnRelease = options.isResetOnRelease();
+    this.adaptive = options.isAdaptiveSizing() ? new AdaptiveLimit(Math.max(1, minIdle), maxSize) : null;
+    this.maxConnecting = options.getMaxConnecting();
+    this.connectBackoff = options.getConnectBackoff();
+    this.maxConnectBackoff = Math.max(options.getMaxConnectBackoff(), connectBackoff);
+    this.circuitBreakerThreshold = options.getCircuitBreakerThreshold();
     this.connector = connector;
+    this.metrics = (ConnectionPoolMetrics<Object>) metrics;
+    this.scheduler = scheduler;
   }
 
   public int available() {
@@ -65,14 +139,87 @@ public class ConnectionPool {
     return size;
   }
 
-  public void acquire(Handler<AsyncResult<Connection>> holder) {
+  public int waiters() {
+    return waiters.size();
+  }
+
+  /**
+   * @return the number of connections the pool can open, in adaptive sizing mode this changes over time
+   */
+  public int capacity() {
+    return adaptive != null ? adaptive.limit() : maxSize;
+  }
+
+  /**
+   * This method can be called from any thread.
+   *
+   * @return whether the pool has no available connection and cannot open a new one
+   */
+  public boolean isSaturated() {
+    return saturated;
+  }
+
+  /**
+   * This method can be called from any thread.
+   *
+   * @return the number of connections in use or being opened plus the number of waiters
+   */
+  public int load() {
+    return load;
+  }
+
+  public long acquireTimeout() {
+    return acquireTimeout;
+  }
+
+  public Waiter acquire(Handler<AsyncResult<Connection>> holder) {
+    return acquire(holder, acquireTimeout);
+  }
+
+  /**
+   * Acquire a connection from the pool, the {@code holder} is failed when the waiter is still queued after the
+   * {@code timeout}.
+   *
+   * @param holder the handler to call with the connection
+   * @param timeout the acquire timeout in milliseconds, {@code 0} means no timeout
+   * @return the waiter
+   */
+  public Waiter acquire(Handler<AsyncResult<Connection>> holder, long timeout) {
+    return acquire(holder, timeout, null);
+  }
+
+  /**
+   * Like {@link #acquire(Handler, long)}, an available connection caching the prepared statement of {@code sql}
+   * is preferred so the statement is not prepared again on another connection.
+   *
+   * @param holder the handler to call with the connection
+   * @param timeout the acquire timeout in milliseconds, {@code 0} means no timeout
+   * @param sql the SQL of the statement the connection will prepare or {@code null}
+   * @return the waiter
+   */
+  public Waiter acquire(Handler<AsyncResult<Connection>> holder, long timeout, String sql) {
     if (closed) {
       throw new IllegalStateException("Connection pool closed");
     }
-    Promise<Connection> promise = Promise.promise();
-    promise.future().setHandler(holder);
-    waiters.add(promise);
+    Waiter waiter = new Waiter(timeout > 0 ? System.currentTimeMillis() + timeout : 0L, sql);
+    if (metrics != null) {
+      waiter.metric = metrics.enqueued();
+    }
+    waiter.promise.future().setHandler(holder);
+    waiters.add(waiter);
     check();
+    return waiter;
+  }
+
+  /**
+   * Fail a waiter that did not get a connection yet because its acquire timeout fired.
+   *
+   * @param waiter the waiter to cancel
+   * @return whether the waiter was cancelled
+   */
+  public boolean cancel(Waiter waiter) {
+    waiters.remove(waiter);
+    return timeout(waiter);
   }
 
   public void close() {
@@ -83,22 +230,121 @@ public class ConnectionPool {
     for (PooledConnection pooled : new ArrayList<>(all)) {
       pooled.close();
     }
-    Future<Connection> failure = Future.failedFuture("Connection pool closed");
-    for (Promise<Connection> pending : waiters) {
+    NoStackTraceThrowable failure = new NoStackTraceThrowable("Connection pool closed");
+    for (Waiter pending : waiters) {
       try {
-        pending.handle(failure);
+        fail(pending, failure);
       } catch (Exception ignore) {
       }
     }
+    if (metrics != null) {
+      metrics.close();
+    }
+  }
+
+  /**
+   * Like {@link #evict(long)} with the current time.
+   */
+  public void evict() {
+    evict(System.currentTimeMillis());
+  }
+
+  /**
+   * Close the available connections that have been idle longer than the idle timeout or that have reached their
+   * max lifetime, then open new connections until the pool holds at least min idle connections.
+   *
+   * @param now the current time in milliseconds
+   */
+  public void evict(long now) {
+    if (closed) {
+      return;
+    }
+    if (idleTimeout > 0 || maxLifetime > 0) {
+      // Only the idle connections count toward min idle, the borrowed ones are not idle
+      int remaining = available.size();
+      for (PooledConnection pooled : new ArrayList<>(available)) {
+        if (pooled.isExpired(now) || (pooled.isIdle(now) && remaining > minIdle)) {
+          available.remove(pooled);
+          remaining--;
+          pooled.close();
+        }
+      }
+    }
+    while (available.size() + (size - all.size()) < minIdle && size < maxSize && canConnect(now)) {
+      size++;
+      connect(null);
+    }
+  }
+
+  public static final class Waiter {
+
+    private final Promise<Connection> promise = Promise.promise();
+    private final long deadline;
+    private final String sql;
+    private Object metric;
+
+    private Waiter(long deadline, String sql) {
+      this.deadline = deadline;
+      this.sql = sql;
+    }
+
+    public boolean isComplete() {
+      return promise.future().isComplete();
+    }
+
+    private boolean isExpired(long now) {
+      return deadline > 0 && now >= deadline;
+    }
+  }
+
+  private boolean timeout(Waiter waiter) {
+    return fail(waiter, new NoStackTraceThrowable("Timeout while waiting for a connection"));
+  }
+
+  private boolean fail(Waiter waiter, Throwable cause) {
+    if (waiter.promise.tryFail(cause)) {
+      if (metrics != null) {
+        metrics.rejected(waiter.metric);
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private boolean complete(Waiter waiter, PooledConnection proxy) {
+    if (waiter.isComplete()) {
+      return false;
+    }
+    if (metrics != null) {
+      proxy.usage = new Usage(metrics.acquired(waiter.metric));
+    }
+    waiter.promise.complete(proxy);
+    return true;
   }
 
   private class PooledConnection implements Connection, Connection.Holder  {
 
     private final Connection conn;
+    private final long createdAt;
+    private long lastUsed;
     private Holder holder;
+    private Usage usage;
+    private boolean dirty;
+    private int pending; // the commands not yet completed in reset on release mode
+    private boolean held; // released while dirty, returned to the pool once its commands completed
 
     PooledConnection(Connection conn) {
       this.conn = conn;
+      this.createdAt = System.currentTimeMillis();
+      this.lastUsed = createdAt;
+    }
+
+    private boolean isIdle(long now) {
+      return idleTimeout > 0 && now - lastUsed >= idleTimeout;
+    }
+
+    private boolean isExpired(long now) {
+      return maxLifetime > 0 && now - createdAt >= maxLifetime;
     }
 
     @Override
@@ -108,7 +354,118 @@ public class ConnectionPool {
 
     @Override
     public void schedule(CommandBase<?> cmd) {
+      if (adaptive != null) {
+        sample(conn, cmd);
+      }
+      if (resetOnRelease) {
+        if (!dirty) {
+          dirty = touchesSession(cmd);
+        }
+        hold(cmd);
+      }
+      if (metrics != null) {
+        track(cmd);
+      }
       conn.schedule(cmd);
+      if (metrics != null) {
+        metrics.commandScheduled(conn.inflight());
+      }
+    }
+
+    /**
+     * Track the completion of a command, the usage of the borrow ends when the connection is released and its
+     * commands are completed, so the usage of a connection returned right after scheduling a command spans the
+     * command execution.
+     */
+    private <R> void track(CommandBase<R> cmd) {
+      Handler<? super CommandResponse<R>> handler = cmd.handler;
+      if (handler == null) {
+        return;
+      }
+      Usage current = usage;
+      if (current != null) {
+        current.pending++;
+      }
+      cmd.handler = resp -> {
+        metrics.commandCompleted(conn.inflight());
+        if (current != null && --current.pending == 0 && current.released) {
+          metrics.released(current.metric);
+        }
+        handler.handle(resp);
+      };
+    }
+
+    /**
+     * Count the commands not yet completed, a pool query releases its connection as soon as the prepare command is
+     * scheduled and the command executing the statement is scheduled when the prepare completes, the reset must not
+     * be pipelined in between.
+     */
+    private <R> void hold(CommandBase<R> cmd) {
+      Handler<? super CommandResponse<R>> handler = cmd.handler;
+      if (handler == null) {
+        return;
+      }
+      pending++;
+      cmd.handler = resp -> {
+        try {
+          handler.handle(resp);
+        } finally {
+          if (--pending == 0 && held) {
+            held = false;
+            release(this);
+          }
+        }
+      };
+    }
+
+    @Override
+    public int inflight() {
+      return conn.inflight();
+    }
+
+    @Override
+    public boolean reset(Handler<AsyncResult<Void>> handler) {
+      return conn.reset(handler);
+    }
+
+    @Override
+    public int maxPendingQueueSize() {
+      return conn.maxPendingQueueSize();
+    }
+
+    @Override
+    public boolean pipelinedTransactions() {
+      return conn.pipelinedTransactions();
+    }
+
+    @Override
+    public boolean isStatementCached(String sql) {
+      return conn.isStatementCached(sql);
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+      return conn.writeQueueFull();
+    }
+
+    @Override
+    public void drainHandler(Handler<Void> handler) {
+      conn.drainHandler(handler);
+    }
+
+    /**
+     * Reset the session state when the borrower might have changed it, the connection is closed when the
+     * reset fails.
+     */
+    private void resetIfDirty() {
+      if (dirty) {
+        dirty = false;
+        conn.reset(ar -> {
+          if (ar.failed()) {
+            close();
+          }
+        });
+      }
     }
 
     /**
@@ -132,6 +489,15 @@ public class ConnectionPool {
         throw new IllegalStateException();
       }
       this.holder = null;
+      conn.drainHandler(null);
+      if (usage != null) {
+        Usage current = usage;
+        usage = null;
+        current.released = true;
+        if (current.pending == 0) {
+          metrics.released(current.metric);
+        }
+      }
       release(this);
     }
 
@@ -139,6 +505,9 @@ public class ConnectionPool {
     public void handleClosed() {
       if (all.remove(this)) {
         size--;
+        if (metrics != null) {
+          metrics.connectionClosed();
+        }
         if (holder == null) {
           available.remove(this);
         } else {
@@ -173,12 +542,84 @@ public class ConnectionPool {
     public int getSecretKey() {
       return conn.getSecretKey();
     }
+
+    @Override
+    public HostSelector.Host getHost() {
+      return conn.getHost();
+    }
+  }
+
+  /**
+   * The usage metric of a borrowed connection.
+   */
+  private static class Usage {
+
+    private final Object metric;
+    private int pending;
+    private boolean released;
+
+    private Usage(Object metric) {
+      this.metric = metric;
+    }
+  }
+
+  /**
+   * @return whether the {@code cmd} might change the session state of the connection
+   */
+  private static boolean touchesSession(CommandBase<?> cmd) {
+    String sql;
+    if (cmd instanceof QueryCommandBase) {
+      sql = ((QueryCommandBase<?>) cmd).sql();
+    } else if (cmd instanceof PrepareStatementCommand) {
+      sql = ((PrepareStatementCommand) cmd).sql();
+    } else {
+      return false;
+    }
+    return !SqlKeywords.startsWith(sql, SESSION_NEUTRAL_KEYWORDS);
+  }
+
+  /**
+   * Sample the round trip of a command scheduled on {@code conn} for the adaptive limit. A pool query returns its
+   * connection as soon as the command is scheduled, so the demand is measured with the in-flight commands and not
+   * only with the borrowed connections. The round trip starts when the command is written, the commands completed
+   * by the connection without reaching the server, e.g. a cached prepared statement, are not sampled.
+   */
+  private <R> void sample(Connection conn, CommandBase<R> cmd) {
+    Handler<? super CommandResponse<R>> handler = cmd.handler;
+    if (handler == null) {
+      return;
+    }
+    int depth = conn.inflight() + 1;
+    int demand = Math.max(++inflight, all.size() - available.size()) + waiters.size();
+    cmd.handler = resp -> {
+      inflight--;
+      long writtenAt = cmd.writtenAt;
+      if (writtenAt != 0 && adaptive.roundTrip(System.nanoTime() - writtenAt, depth, demand)) {
+        check();
+      }
+      handler.handle(resp);
+    };
   }
 
   private void release(PooledConnection proxy) {
+    if (resetOnRelease && proxy.dirty && proxy.pending > 0) {
+      // The commands of the borrower might schedule other commands, the reset happens once they completed
+      proxy.held = true;
+      return;
+    }
     if (all.contains(proxy)) {
-      available.add(proxy);
-      check();
+      long now = System.currentTimeMillis();
+      if (proxy.isExpired(now) || all.size() > capacity()) {
+        proxy.close();
+      } else {
+        proxy.lastUsed = now;
+        if (resetOnRelease) {
+          // Pipelined before the commands of the next borrower
+          proxy.resetIfDirty();
+        }
+        available.add(proxy);
+        check();
+      }
     }
   }
 
@@ -189,44 +630,201 @@ public class ConnectionPool {
     if (!checkInProgress) {
       checkInProgress = true;
       try {
+        long now = System.currentTimeMillis();
         while (waiters.size() > 0) {
-          if (available.size() > 0) {
-            PooledConnection proxy = available.poll();
-            Promise<Connection> waiter = waiters.poll();
-            waiter.complete(proxy);
-          } else {
-            if (size < maxSize) {
-              Promise<Connection> waiter = waiters.poll();
+          if (available.size() > 0 || size < capacity()) {
+            Waiter waiter = waiters.poll();
+            if (waiter.isComplete()) {
+              continue;
+            }
+            if (waiter.isExpired(now)) {
+              // Skip waiters that gave up, they must not hold a connection
+              timeout(waiter);
+              continue;
+            }
+            boolean canConnect = size < capacity() && canConnect(now);
+            PooledConnection proxy = pollAvailable(canConnect, waiter.sql);
+            if (proxy != null) {
+              complete(waiter, proxy);
+            } else if (canConnect) {
               size++;
-              connector.accept(ar -> {
-                if (ar.succeeded()) {
-                  Connection conn = ar.result();
-                  PooledConnection proxy = new PooledConnection(conn);
-                  all.add(proxy);
-                  conn.init(proxy);
-                  waiter.complete(proxy);
-                } else {
-                  size--;
-                  waiter.fail(ar.cause());
-                  check();
-                }
-              });
+              connect(waiter);
+            } else if (isCircuitOpen(now)) {
+              fail(waiter, new NoStackTraceThrowable("Connection pool circuit breaker is open"));
             } else {
-              if (maxWaitQueueSize >= 0) {
-                int numInProgress = size - all.size();
-                int numToFail = waiters.size() - (maxWaitQueueSize + numInProgress);
-                while (numToFail-- > 0) {
-                  Promise<Connection> waiter = waiters.pollLast();
-                  waiter.fail(new NoStackTraceThrowable("Max waiter size reached"));
-                }
-              }
+              // Wait for a connection being opened or the connect backoff
+              waiters.addFirst(waiter);
+              scheduleRetry(now);
+              checkWaitQueueSize();
               break;
             }
+          } else {
+            checkWaitQueueSize();
+            break;
           }
         }
       } finally {
         checkInProgress = false;
+        saturated = available.isEmpty() && size >= capacity();
+        load = size - available.size() + waiters.size();
+      }
+    }
+  }
+
+  private void checkWaitQueueSize() {
+    if (maxWaitQueueSize >= 0) {
+      int numInProgress = size - all.size();
+      int numToFail = waiters.size() - (maxWaitQueueSize + numInProgress);
+      while (numToFail-- > 0) {
+        Waiter waiter = waiters.pollLast();
+        fail(waiter, new NoStackTraceThrowable("Max waiter size reached"));
       }
     }
   }
+
+  /**
+   * Select the next available connection to hand to a waiter.
+   *
+   * An idle connection caching the prepared statement of {@code sql} is selected first. In multiplexing mode the
+   * available connection with the fewest in-flight commands is selected otherwise, when this connection is busy and a
+   * connection can be opened, {@code null} is returned so a new connection is opened instead of pipelining behind
+   * the busy one.
+   * <p>
+   * The connections whose pending command queue is full are skipped, when all the available connections are full
+   * a new connection is opened if possible, otherwise a full connection is returned and rejects the command.
+   *
+   * @param canConnect whether a new connection can be opened
+   * @param sql the SQL of the statement the waiter will prepare or {@code null}
+   * @return the connection or {@code null} when a new connection should be opened
+   */
+  private PooledConnection pollAvailable(boolean canConnect, String sql) {
+    if (sql != null) {
+      for (PooledConnection pooled : available) {
+        if (pooled.isStatementCached(sql) && (!multiplexing || pooled.inflight() == 0) && !pooled.writeQueueFull()) {
+          available.remove(pooled);
+          return pooled;
+        }
+      }
+    }
+    if (!multiplexing) {
+      for (PooledConnection pooled : available) {
+        if (!pooled.writeQueueFull()) {
+          available.remove(pooled);
+          return pooled;
+        }
+      }
+      return canConnect ? null : available.poll();
+    }
+    PooledConnection leastLoaded = null;
+    int min = Integer.MAX_VALUE;
+    for (PooledConnection pooled : available) {
+      if (pooled.writeQueueFull()) {
+        continue;
+      }
+      int inflight = pooled.inflight();
+      if (inflight < min) {
+        leastLoaded = pooled;
+        min = inflight;
+        if (min == 0) {
+          break;
+        }
+      }
+    }
+    if (leastLoaded == null) {
+      return canConnect ? null : available.poll();
+    }
+    if (min > 0 && canConnect) {
+      return null;
+    }
+    available.remove(leastLoaded);
+    return leastLoaded;
+  }
+
+  /**
+   * @return whether a new connection can be opened: the number of connections being opened is below the limit
+   *         and the connect backoff expired, while the circuit breaker is half open a single connection is opened
+   */
+  private boolean canConnect(long now) {
+    int connecting = size - all.size();
+    int limit = circuitBreakerThreshold > 0 && connectFailures >= circuitBreakerThreshold ? 1 : maxConnecting;
+    return (limit == 0 || connecting < limit) && now >= nextConnectAt;
+  }
+
+  private boolean isCircuitOpen(long now) {
+    return circuitBreakerThreshold > 0 && connectFailures >= circuitBreakerThreshold && now < nextConnectAt;
+  }
+
+  private void scheduleRetry(long now) {
+    if (scheduler != null && !retryScheduled && now < nextConnectAt) {
+      retryScheduled = true;
+      scheduler.schedule(nextConnectAt - now, () -> {
+        retryScheduled = false;
+        check();
+      });
+    }
+  }
+
+  /**
+   * Compute the next connect time after a connection failure, the backoff doubles with each consecutive failure
+   * and up to half of it is randomly subtracted so pools do not retry in lockstep. Without connect backoff, the
+   * {@link PoolOptions#CIRCUIT_BREAKER_BACKOFF circuit breaker backoff} applies once the circuit is open.
+   */
+  private void connectFailed() {
+    connectFailures++;
+    long base;
+    int exp;
+    if (connectBackoff > 0) {
+      base = connectBackoff;
+      exp = connectFailures - 1;
+    } else if (circuitBreakerThreshold > 0 && connectFailures >= circuitBreakerThreshold) {
+      base = PoolOptions.CIRCUIT_BREAKER_BACKOFF;
+      exp = connectFailures - circuitBreakerThreshold;
+    } else {
+      base = 0;
+      exp = 0;
+    }
+    if (base > 0) {
+      exp = Math.min(exp, 30);
+      long backoff = Math.min(maxConnectBackoff, base << exp);
+      long jitter = ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+      nextConnectAt = System.currentTimeMillis() + backoff - jitter;
+    }
+  }
+
+  /**
+   * Open a new connection, the connection is handed to the {@code waiter} or added to the available connections
+   * when the {@code waiter} is {@code null} or has timed out.
+   */
+  private void connect(Waiter waiter) {
+    connector.accept(ar -> {
+      if (ar.succeeded()) {
+        Connection conn = ar.result();
+        PooledConnection proxy = new PooledConnection(conn);
+        connectFailures = 0;
+        nextConnectAt = 0L;
+        all.add(proxy);
+        conn.init(proxy);
+        if (metrics != null) {
+          metrics.connectionCreated();
+        }
+        if (waiter == null || !complete(waiter, proxy)) {
+          // No waiter or the waiter timed out
+          release(proxy);
+        } else {
+          // Waiters may have been held back by the connect limit
+          check();
+        }
+      } else {
+        size--;
+        connectFailed();
+        if (metrics != null) {
+          metrics.connectionFailed();
+        }
+        if (waiter != null) {
+          fail(waiter, ar.cause());
+        }
+        check();
+      }
+    });
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+/**
+ * A count-min sketch estimating how frequently a key is used, the TinyLFU admission filter of the
+ * {@link PreparedStatementCache}.
+ *
+ * Each key increments four saturating counters, its frequency is the minimum of them. Counters are halved after
+ * a sample of increments, so the frequencies reflect the recent usage.
+ */
+class FrequencySketch {
+
+  private static final long[] SEEDS = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+  };
+  private static final int MAX_COUNT = 15;
+
+  private final int[] table;
+  private final int shift;
+  private final int sampleSize;
+  private int size;
+
+  FrequencySketch(int capacity) {
+    int length = Integer.highestOneBit(Math.max(16, 4 * capacity) - 1) << 1;
+    this.table = new int[length];
+    this.shift = 64 - Integer.numberOfTrailingZeros(length);
+    this.sampleSize = 10 * Math.max(1, capacity);
+  }
+
+  int frequency(int hashCode) {
+    int hash = spread(hashCode);
+    int frequency = MAX_COUNT;
+    for (int i = 0;i < SEEDS.length;i++) {
+      frequency = Math.min(frequency, table[indexOf(hash, i)]);
+    }
+    return frequency;
+  }
+
+  void increment(int hashCode) {
+    int hash = spread(hashCode);
+    boolean added = false;
+    for (int i = 0;i < SEEDS.length;i++) {
+      int index = indexOf(hash, i);
+      if (table[index] < MAX_COUNT) {
+        table[index]++;
+        added = true;
+      }
+    }
+    if (added && ++size == sampleSize) {
+      reset();
+    }
+  }
+
+  private void reset() {
+    for (int i = 0;i < table.length;i++) {
+      table[i] >>>= 1;
+    }
+    size /= 2;
+  }
+
+  private int indexOf(int hash, int i) {
+    // The high bits of the product depend on all the bits of the hash
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    return (int) (h >>> shift);
+  }
+
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.GroupCommitClient;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlClient;
+import io.vertx.sqlclient.SqlResult;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.Tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+
+public class GroupCommitClientImpl implements GroupCommitClient {
+
+  private final Vertx vertx;
+  private final Pool pool;
+  private final int maxSize;
+  private final long maxDelay;
+  private List<Op<?>> ops = new ArrayList<>();
+  private long generation;
+  private long timerID = -1;
+  private boolean closed;
+
+  public GroupCommitClientImpl(Vertx vertx, Pool pool, int maxSize, long maxDelay) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Group max size must be > 0");
+    }
+    if (maxDelay < 0) {
+      throw new IllegalArgumentException("Group max delay must be >= 0");
+    }
+    this.vertx = vertx;
+    this.pool = pool;
+    this.maxSize = maxSize;
+    this.maxDelay = maxDelay;
+  }
+
+  /**
+   * A query of a group, it can be executed several times.
+   */
+  private static class Op<T> {
+
+    private final BiConsumer<SqlClient, Handler<AsyncResult<T>>> action;
+    private final Handler<AsyncResult<T>> handler;
+    private AsyncResult<T> result;
+
+    Op(BiConsumer<SqlClient, Handler<AsyncResult<T>>> action, Handler<AsyncResult<T>> handler) {
+      this.action = action;
+      this.handler = handler;
+    }
+
+    void execute(SqlClient client, Handler<Void> done) {
+      action.accept(client, ar -> {
+        result = ar;
+        done.handle(null);
+      });
+    }
+
+    boolean succeeded() {
+      return result.succeeded();
+    }
+
+    void complete() {
+      handler.handle(result);
+    }
+
+    void retry(SqlClient client) {
+      action.accept(client, handler);
+    }
+
+    void fail(Throwable cause) {
+      handler.handle(Future.failedFuture(cause));
+    }
+  }
+
+  private <T> void enqueue(BiConsumer<SqlClient, Handler<AsyncResult<T>>> action, Handler<AsyncResult<T>> handler) {
+    boolean rejected;
+    List<Op<?>> group = null;
+    synchronized (this) {
+      rejected = closed;
+      if (!rejected) {
+        ops.add(new Op<>(action, handler));
+        if (ops.size() >= maxSize) {
+          group = take();
+        } else if (ops.size() == 1) {
+          long current = generation;
+          if (maxDelay > 0) {
+            timerID = vertx.setTimer(maxDelay, id -> flush(current));
+          } else {
+            vertx.runOnContext(v -> flush(current));
+          }
+        }
+      }
+    }
+    if (rejected) {
+      handler.handle(Future.failedFuture("Group commit client closed"));
+    } else if (group != null) {
+      execute(group);
+    }
+  }
+
+  private List<Op<?>> take() {
+    List<Op<?>> group = ops;
+    ops = new ArrayList<>();
+    generation++;
+    if (timerID != -1) {
+      vertx.cancelTimer(timerID);
+      timerID = -1;
+    }
+    return group;
+  }
+
+  private void flush(long expected) {
+    List<Op<?>> group;
+    synchronized (this) {
+      if (generation != expected || ops.isEmpty()) {
+        // Already executed when it reached the max size
+        return;
+      }
+      timerID = -1;
+      group = take();
+    }
+    execute(group);
+  }
+
+  private void execute(List<Op<?>> group) {
+    pool.begin(ar -> {
+      if (ar.succeeded()) {
+        Transaction tx = ar.result();
+        Handler<Void> done = new Handler<Void>() {
+          int remaining = group.size();
+          @Override
+          public void handle(Void v) {
+            if (--remaining == 0) {
+              end(tx, group);
+            }
+          }
+        };
+        for (Op<?> op : group) {
+          op.execute(tx, done);
+        }
+      } else {
+        for (Op<?> op : group) {
+          op.fail(ar.cause());
+        }
+      }
+    });
+  }
+
+  private void end(Transaction tx, List<Op<?>> group) {
+    if (group.stream().allMatch(Op::succeeded)) {
+      tx.commit(ar -> {
+        if (ar.succeeded()) {
+          group.forEach(Op::complete);
+        } else {
+          // The transaction might have been committed, retrying could apply the queries twice
+          for (Op<?> op : group) {
+            op.fail(ar.cause());
+          }
+        }
+      });
+    } else {
+      // Isolate the failure by executing each query on its own, the transaction is never committed
+      tx.rollback(ar -> retry(group));
+    }
+  }
+
+  private void retry(List<Op<?>> group) {
+    for (Op<?> op : group) {
+      op.retry(pool);
+    }
+  }
+
+  @Override
+  public GroupCommitClient query(String sql, Handler<AsyncResult<RowSet>> handler) {
+    enqueue((client, h) -> client.query(sql, h), handler);
+    return this;
+  }
+
+  @Override
+  public GroupCommitClient query(String sql, long timeout, Handler<AsyncResult<RowSet>> handler) {
+    enqueue((client, h) -> client.query(sql, timeout, h), handler);
+    return this;
+  }
+
+  @Override
+  public <R> GroupCommitClient query(String sql, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler) {
+    enqueue((client, h) -> client.query(sql, collector, h), handler);
+    return this;
+  }
+
+  @Override
+  public GroupCommitClient preparedQuery(String sql, Handler<AsyncResult<RowSet>> handler) {
+    enqueue((client, h) -> client.preparedQuery(sql, h), handler);
+    return this;
+  }
+
+  @Override
+  public <R> GroupCommitClient preparedQuery(String sql, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler) {
+    enqueue((client, h) -> client.preparedQuery(sql, collector, h), handler);
+    return this;
+  }
+
+  @Override
+  public GroupCommitClient preparedQuery(String sql, Tuple arguments, Handler<AsyncResult<RowSet>> handler) {
+    enqueue((client, h) -> client.preparedQuery(sql, arguments, h), handler);
+    return this;
+  }
+
+  @Override
+  public GroupCommitClient preparedQuery(String sql, Tuple arguments, long timeout, Handler<AsyncResult<RowSet>> handler) {
+    enqueue((client, h) -> client.preparedQuery(sql, arguments, timeout, h), handler);
+    return this;
+  }
+
+  @Override
+  public <R> GroupCommitClient preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler) {
+    enqueue((client, h) -> client.preparedQuery(sql, arguments, collector, h), handler);
+    return this;
+  }
+
+  @Override
+  public GroupCommitClient preparedBatch(String sql, List<Tuple> batch, Handler<AsyncResult<RowSet>> handler) {
+    enqueue((client, h) -> client.preparedBatch(sql, batch, h), handler);
+    return this;
+  }
+
+  @Override
+  public <R> GroupCommitClient preparedBatch(String sql, List<Tuple> batch, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler) {
+    enqueue((client, h) -> client.preparedBatch(sql, batch, collector, h), handler);
+    return this;
+  }
+
+  @Override
+  public void close() {
+    List<Op<?>> group;
+    synchronized (this) {
+      closed = true;
+      if (ops.isEmpty()) {
+        return;
+      }
+      group = take();
+    }
+    execute(group);
+  }
+}
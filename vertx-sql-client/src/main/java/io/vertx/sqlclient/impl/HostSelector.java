@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.HostSelection;
+import io.vertx.sqlclient.SqlConnectOptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Select the order in which the hosts are tried when connecting and keep track of the failed hosts.
+ *
+ * A failed host is tried after the other hosts until its backoff expires, the backoff doubles on each consecutive
+ * failure up to {@link #MAX_BACKOFF_MULTIPLIER} times the host backoff. When all hosts failed, they are still tried
+ * in the order their backoff expires so a connection is never refused without trying.
+ */
+public class HostSelector {
+
+  public static final int MAX_BACKOFF_MULTIPLIER = 32;
+
+  public static HostSelector create(SqlConnectOptions options) {
+    List<Host> hosts = new ArrayList<>();
+    if (options.getHosts().isEmpty()) {
+      hosts.add(new Host(options.getHost(), options.getPort()));
+    } else {
+      for (String host : options.getHosts()) {
+        hosts.add(Host.parse(host, options.getPort()));
+      }
+    }
+    return new HostSelector(hosts, options.getHostSelection(), options.getHostBackoff());
+  }
+
+  public static class Host {
+
+    /**
+     * Parse a {@code host}, {@code host:port} or {@code [ipv6]:port} string.
+     */
+    static Host parse(String s, int defaultPort) {
+      String host = s;
+      int port = defaultPort;
+      int sep;
+      if (s.startsWith("[")) {
+        int end = s.indexOf(']');
+        if (end == -1) {
+          throw new IllegalArgumentException("Invalid host " + s);
+        }
+        host = s.substring(1, end);
+        sep = s.length() > end + 1 && s.charAt(end + 1) == ':' ? end + 1 : -1;
+      } else {
+        sep = s.indexOf(':');
+        if (sep != -1) {
+          host = s.substring(0, sep);
+        }
+      }
+      if (sep != -1) {
+        try {
+          port = Integer.parseInt(s.substring(sep + 1));
+        } catch (NumberFormatException e) {
+          throw new IllegalArgumentException("Invalid port in host " + s);
+        }
+      }
+      return new Host(host, port);
+    }
+
+    private final String host;
+    private final int port;
+    private int failures;
+    private long retryAt;
+
+    public Host(String host, int port) {
+      this.host = host;
+      this.port = port;
+    }
+
+    public String host() {
+      return host;
+    }
+
+    public int port() {
+      return port;
+    }
+
+    @Override
+    public String toString() {
+      return host + ":" + port;
+    }
+  }
+
+  private final List<Host> hosts;
+  private final HostSelection selection;
+  private final long backoff;
+
+  public HostSelector(List<Host> hosts, HostSelection selection, long backoff) {
+    if (hosts.isEmpty()) {
+      throw new IllegalArgumentException("No host");
+    }
+    this.hosts = hosts;
+    this.selection = selection;
+    this.backoff = backoff;
+  }
+
+  /**
+   * @param now the current time in milliseconds
+   * @return the hosts in the order they should be tried
+   */
+  public List<Host> select(long now) {
+    List<Host> available = new ArrayList<>(hosts.size());
+    List<Host> failed = new ArrayList<>();
+    for (Host host : hosts) {
+      if (host.retryAt <= now) {
+        available.add(host);
+      } else {
+        failed.add(host);
+      }
+    }
+    if (selection == HostSelection.RANDOM && available.size() > 1) {
+      Collections.shuffle(available, ThreadLocalRandom.current());
+    }
+    if (failed.size() > 0) {
+      failed.sort(Comparator.comparingLong(host -> host.retryAt));
+      available.addAll(failed);
+    }
+    return available;
+  }
+
+  /**
+   * Record a failure to connect to a {@code host}.
+   */
+  public void failed(Host host, long now) {
+    int exp = Math.min(host.failures++, Integer.numberOfTrailingZeros(MAX_BACKOFF_MULTIPLIER));
+    host.retryAt = now + (backoff << exp);
+  }
+
+  /**
+   * Record a successful connection to a {@code host}.
+   */
+  public void succeeded(Host host) {
+    host.failures = 0;
+    host.retryAt = 0L;
+  }
+}
@@ -24,6 +24,9 @@ import io.vertx.sqlclient.Transaction;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.CommandScheduler;
+import io.vertx.sqlclient.impl.command.PrepareStatementCommand;
+import io.vertx.sqlclient.impl.command.QueryCommandBase;
+import io.vertx.sqlclient.impl.metrics.VertxConnectionPoolMetrics;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
@@ -32,11 +35,6 @@ import io.vertx.core.Vertx;
 import io.vertx.core.VertxException;
 
 /**
- * Todo :
- *
- * - handle timeout when acquiring a connection
- * - for per statement pooling, have several physical connection and use the less busy one to avoid head of line blocking effect
- *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  * @author <a href="mailto:emad.albloushi@gmail.com">Emad Alblueshi</a>
  */
@@ -45,6 +43,8 @@ public abstract class PoolBase<P extends PoolBase<P>> extends SqlClientBase<P> i
   private final Context context;
   private final ConnectionPool pool;
   private final boolean closeVertx;
+  private long timerID = -1L;
+  private boolean closed;
 
   public PoolBase(Context context, boolean closeVertx, PoolOptions options) {
     int maxSize = options.getMaxSize();
@@ -52,19 +52,76 @@ public abstract class PoolBase<P extends PoolBase<P>> extends SqlClientBase<P> i
       throw new IllegalArgumentException("Pool max size must be > 0");
     }
     this.context = context;
-    this.pool = new ConnectionPool(this::connect, maxSize, options.getMaxWaitQueueSize());
+    this.pool = new ConnectionPool(this::connect, options, VertxConnectionPoolMetrics.create(context.owner(), options),
+      (delay, task) -> context.owner().setTimer(delay, id -> task.run()));
     this.closeVertx = closeVertx;
+    if (options.getIdleTimeout() > 0 || options.getMaxLifetime() > 0 || options.getMinIdle() > 0) {
+      long period = options.getPoolCleanerPeriod();
+      context.runOnContext(v -> {
+        if (!closed) {
+          timerID = context.owner().setPeriodic(period, id -> pool.evict());
+        }
+      });
+    }
   }
 
   public abstract void connect(Handler<AsyncResult<Connection>> completionHandler);
 
+  /**
+   * This method can be called from any thread.
+   *
+   * @return whether this pool has no available connection and cannot open a new one
+   */
+  public boolean isSaturated() {
+    return pool.isSaturated();
+  }
+
+  /**
+   * This method can be called from any thread.
+   *
+   * @return the load of this pool, see {@link ConnectionPool#load()}
+   */
+  public int load() {
+    return pool.load();
+  }
+
   @Override
   public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+    getConnection(pool.acquireTimeout(), handler);
+  }
+
+  @Override
+  public void getConnection(long timeout, Handler<AsyncResult<SqlConnection>> handler) {
     Context current = Vertx.currentContext();
     if (current == context) {
-      pool.acquire(new ConnectionWaiter(handler));
+      acquire(timeout, null, new ConnectionWaiter(handler));
+    } else {
+      context.runOnContext(v -> getConnection(timeout, handler));
+    }
+  }
+
+  /**
+   * Acquire a connection from the pool, a timer fails the {@code handler} when no connection is obtained
+   * before the {@code timeout}. A connection caching the prepared statement of {@code sql} is preferred.
+   */
+  private void acquire(long timeout, String sql, Handler<AsyncResult<Connection>> handler) {
+    if (timeout > 0) {
+      Vertx vertx = context.owner();
+      long[] timerID = { -1L };
+      ConnectionPool.Waiter waiter = pool.acquire(ar -> {
+        if (timerID[0] >= 0) {
+          vertx.cancelTimer(timerID[0]);
+        }
+        handler.handle(ar);
+      }, timeout, sql);
+      if (!waiter.isComplete()) {
+        timerID[0] = vertx.setTimer(timeout, id -> {
+          timerID[0] = -1L;
+          pool.cancel(waiter);
+        });
+      }
     } else {
-      context.runOnContext(v -> getConnection(handler));
+      pool.acquire(handler, 0L, sql);
     }
   }
 
@@ -85,7 +142,14 @@ public abstract class PoolBase<P extends PoolBase<P>> extends SqlClientBase<P> i
   public <R> void schedule(CommandBase<R> cmd, Handler<? super CommandResponse<R>> handler) {
     Context current = Vertx.currentContext();
     if (current == context) {
-      pool.acquire(new CommandWaiter() { // SHOULD BE IT !!!!!
+      if (cmd instanceof QueryCommandBase) {
+        ((QueryCommandBase<?>) cmd).enqueuedAt = System.nanoTime();
+      } else if (cmd instanceof PrepareStatementCommand) {
+        // Carried to the query executing the statement
+        ((PrepareStatementCommand) cmd).enqueuedAt = System.nanoTime();
+      }
+      String sql = cmd instanceof PrepareStatementCommand ? ((PrepareStatementCommand) cmd).sql() : null;
+      acquire(pool.acquireTimeout(), sql, new CommandWaiter() { // SHOULD BE IT !!!!!
         @Override
         protected void onSuccess(Connection conn) {
           cmd.handler = ar -> {
@@ -170,6 +234,11 @@ public abstract class PoolBase<P extends PoolBase<P>> extends SqlClientBase<P> i
   }
 
   protected void doClose() {
+    closed = true;
+    if (timerID >= 0) {
+      context.owner().cancelTimer(timerID);
+      timerID = -1L;
+    }
     pool.close();
     if (closeVertx) {
       context.owner().close();
@@ -27,6 +27,7 @@ import io.vertx.sqlclient.SqlResult;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.RowStream;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowCollector;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.core.*;
 
@@ -58,7 +59,7 @@ class PreparedQueryImpl implements PreparedQuery {
 
   @Override
   public <R> PreparedQuery execute(Tuple args, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler) {
-    return execute(args, true, SqlResultImpl::new, collector, handler);
+    return execute(args, collector instanceof RowCollector, SqlResultImpl::new, collector, handler);
   }
 
   private <R1, R2 extends SqlResultBase<R1, R2>, R3 extends SqlResult<R1>> PreparedQuery execute(
@@ -123,7 +124,7 @@ class PreparedQueryImpl implements PreparedQuery {
 
   @Override
   public <R> PreparedQuery batch(List<Tuple> argsList, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler) {
-    return batch(argsList, true, SqlResultImpl::new, collector, handler);
+    return batch(argsList, collector instanceof RowCollector, SqlResultImpl::new, collector, handler);
   }
 
   private <R1, R2 extends SqlResultBase<R1, R2>, R3 extends SqlResult<R1>> PreparedQuery batch(
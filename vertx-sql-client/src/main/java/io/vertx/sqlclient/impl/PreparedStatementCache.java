@@ -1,60 +1,210 @@
 package io.vertx.sqlclient.impl;
 
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.SqlConnectOptions;
 import io.vertx.sqlclient.impl.SocketConnectionBase.CachedPreparedStatement;
-import io.vertx.sqlclient.impl.command.CloseStatementCommand;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.spi.metrics.PreparedStatementCacheMetrics;
+import io.vertx.sqlclient.spi.metrics.PreparedStatementCacheMetricsFactory;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.ServiceLoader;
 
 /**
- * A LRU replacement strategy cache based on {@link java.util.LinkedHashMap} for prepared statements.
+ * A LRU cache of the prepared statements of a connection, lookups and replacements take constant time.
+ *
+ * With the {@link PreparedStatementCachePolicy#TINY_LFU} policy, a {@link FrequencySketch} tracks how frequently
+ * each SQL is prepared and a new statement replaces the least recently used statement unless it is used less
+ * frequently, so a cache full of statements used once still admits new statements.
+ *
+ * With a prepare threshold, a SQL is cached only once it has been prepared as many times, the preparations of the
+ * SQL not yet cached are counted for the most recently prepared SQL.
  */
-class PreparedStatementCache extends LinkedHashMap<String, CachedPreparedStatement> {
+public class PreparedStatementCache {
+
+  private static final PreparedStatementCacheMetrics NO_METRICS = new PreparedStatementCacheMetrics() {
+  };
+
+  /**
+   * Create the metrics of the caches of a client, using the first {@link PreparedStatementCacheMetricsFactory} found.
+   *
+   * @return the metrics or {@code null} when there are no metrics
+   */
+  public static PreparedStatementCacheMetrics createMetrics(Vertx vertx, SqlConnectOptions options) {
+    Iterator<PreparedStatementCacheMetricsFactory> it = ServiceLoader.load(PreparedStatementCacheMetricsFactory.class).iterator();
+    if (it.hasNext()) {
+      return it.next().create(vertx, options);
+    }
+    return null;
+  }
+
+  private static class Entry {
+
+    final String sql;
+    final CachedPreparedStatement statement;
+    Entry prev;
+    Entry next;
+
+    Entry(String sql, CachedPreparedStatement statement) {
+      this.sql = sql;
+      this.statement = statement;
+    }
+  }
+
   private final int capacity;
-  private final Connection conn;
+  private final Map<String, Entry> entries = new HashMap<>();
+  private final FrequencySketch sketch;
+  private final int prepareThreshold;
+  private final Map<String, Integer> preparations;
+  private final PreparedStatementCacheMetrics metrics;
+  // head.next is the most recently used entry and head.prev the least recently used entry
+  private final Entry head = new Entry(null, null);
 
-  PreparedStatementCache(int capacity, Connection conn) {
-    super(capacity, 0.75f, true);
+  PreparedStatementCache(int capacity, PreparedStatementCachePolicy policy, int prepareThreshold, PreparedStatementCacheMetrics metrics) {
     this.capacity = capacity;
-    this.conn = conn;
-  }
-
-  @Override
-  protected boolean removeEldestEntry(Map.Entry<String, CachedPreparedStatement> eldest) {
-    boolean needRemove = size() > capacity;
-    CachedPreparedStatement cachedPreparedStatementToRemove = eldest.getValue();
-
-    if (needRemove) {
-      if (cachedPreparedStatementToRemove.resp.succeeded()) {
-        // close the statement after it has been evicted from the cache
-        PreparedStatement statement = cachedPreparedStatementToRemove.resp.result();
-        CloseStatementCommand cmd = new CloseStatementCommand(statement);
-        cmd.handler = ar -> {
-        };
-        conn.schedule(cmd);
-      }
-      return true;
+    this.sketch = policy == PreparedStatementCachePolicy.TINY_LFU ? new FrequencySketch(capacity) : null;
+    this.prepareThreshold = prepareThreshold;
+    if (prepareThreshold > 1) {
+      int maxSize = 4 * Math.max(1, capacity);
+      this.preparations = new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+          return size() > maxSize;
+        }
+      };
+    } else {
+      this.preparations = null;
     }
-    return false;
+    this.metrics = metrics != null ? metrics : NO_METRICS;
+    head.prev = head;
+    head.next = head;
   }
 
-  public boolean isReady() {
-    Map.Entry<String, CachedPreparedStatement> entry = getEldestEntry();
+  /**
+   * Lookup the statement prepared for {@code sql}, the statement becomes the most recently used statement.
+   *
+   * @return the statement or {@code null}
+   */
+  CachedPreparedStatement get(String sql) {
+    if (sketch != null) {
+      sketch.increment(sql.hashCode());
+    }
+    Entry entry = entries.get(sql);
     if (entry == null) {
+      metrics.miss();
+      return null;
+    }
+    metrics.hit();
+    unlink(entry);
+    linkFirst(entry);
+    return entry.statement;
+  }
+
+  /**
+   * Count a preparation of {@code sql} that is not cached.
+   *
+   * @return whether the prepare threshold is reached and the statement should be cached
+   */
+  boolean promote(String sql) {
+    if (preparations == null) {
+      return true;
+    }
+    Integer count = preparations.get(sql);
+    int next = count == null ? 1 : count + 1;
+    if (next >= prepareThreshold) {
+      preparations.remove(sql);
       return true;
-    } else {
-      return entry.getValue().resp != null;
     }
+    preparations.put(sql, next);
+    return false;
   }
 
-  public int getCapacity() {
-    return this.capacity;
+  /**
+   * Add the statement prepared for {@code sql}, a full cache evicts its least recently used statement.
+   *
+   * @param evictionHandler called with the evicted statement
+   * @return whether the statement is cached
+   */
+  boolean put(String sql, CachedPreparedStatement statement, Handler<CachedPreparedStatement> evictionHandler) {
+    if (capacity <= 0) {
+      return false;
+    }
+    if (entries.size() >= capacity) {
+      Entry eldest = head.prev;
+      if (sketch != null && sketch.frequency(sql.hashCode()) < sketch.frequency(eldest.sql.hashCode())) {
+        metrics.rejected();
+        return false;
+      }
+      unlink(eldest);
+      entries.remove(eldest.sql);
+      metrics.evicted();
+      evictionHandler.handle(eldest.statement);
+    }
+    Entry entry = new Entry(sql, statement);
+    entries.put(sql, entry);
+    linkFirst(entry);
+    return true;
   }
 
-  private Map.Entry<String, CachedPreparedStatement> getEldestEntry() {
-    if (size() == 0) {
-      return null;
+  /**
+   * @return whether this cache holds a statement for {@code sql}, the recency of the statement is not updated
+   */
+  boolean contains(String sql) {
+    return entries.containsKey(sql);
+  }
+
+  /**
+   * @return whether {@code statement} is a statement of this cache
+   */
+  boolean contains(PreparedStatement statement) {
+    return get(statement) != null;
+  }
+
+  /**
+   * @return the cached statement of {@code statement} or {@code null}, the recency of the statement is not updated
+   */
+  CachedPreparedStatement get(PreparedStatement statement) {
+    Entry entry = entries.get(statement.sql());
+    if (entry != null) {
+      CommandResponse<PreparedStatement> resp = entry.statement.resp;
+      if (resp != null && resp.succeeded() && resp.result() == statement) {
+        return entry.statement;
+      }
     }
-    return (Map.Entry<String, CachedPreparedStatement>) entrySet().toArray()[size() - 1];
+    return null;
+  }
+
+  void clear() {
+    entries.clear();
+    if (preparations != null) {
+      preparations.clear();
+    }
+    head.prev = head;
+    head.next = head;
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  int getCapacity() {
+    return capacity;
+  }
+
+  private void unlink(Entry entry) {
+    entry.prev.next = entry.next;
+    entry.next.prev = entry.prev;
+  }
+
+  private void linkFirst(Entry entry) {
+    entry.prev = head;
+    entry.next = head.next;
+    head.next.prev = entry;
+    head.next = entry;
   }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool splitting the work between a primary pool and replica pools.
+ *
+ * The pool sends all its work to the primary and its read-only view sends all its work to the replica with the
+ * lowest load. Statements are not routed on their leading keyword: a {@code SELECT} can lock rows
+ * ({@code FOR UPDATE}), create a table ({@code INTO}) or call a function writing data ({@code nextval}), so only
+ * the caller can mark work as read-only.
+ */
+public abstract class ReadWritePoolBase<P extends ReadWritePoolBase<P>> extends SqlClientBase<P> implements Pool {
+
+  private final Vertx vertx;
+  private final boolean closeVertx;
+  private final PoolBase<?> primary;
+  private final PoolBase<?>[] replicas;
+  private final AtomicInteger next;
+  private final AtomicBoolean closed;
+  private final boolean readOnly;
+
+  public ReadWritePoolBase(Vertx vertx, boolean closeVertx, PoolBase<?> primary, PoolBase<?>[] replicas) {
+    this.vertx = vertx;
+    this.closeVertx = closeVertx;
+    this.primary = primary;
+    this.replicas = replicas.clone();
+    this.next = new AtomicInteger();
+    this.closed = new AtomicBoolean();
+    this.readOnly = false;
+  }
+
+  /**
+   * Create the read-only view of a pool.
+   */
+  protected ReadWritePoolBase(ReadWritePoolBase<P> pool) {
+    this.vertx = pool.vertx;
+    this.closeVertx = pool.closeVertx;
+    this.primary = pool.primary;
+    this.replicas = pool.replicas;
+    this.next = pool.next;
+    this.closed = pool.closed;
+    this.readOnly = true;
+  }
+
+  /**
+   * Select the least loaded replica, the search starts at a rotating index so ties are balanced.
+   */
+  private PoolBase<?> replica() {
+    int len = replicas.length;
+    if (len == 0) {
+      return primary;
+    }
+    int start = Math.abs(next.getAndIncrement() % len);
+    PoolBase<?> leastLoaded = null;
+    int min = Integer.MAX_VALUE;
+    for (int i = 0;i < len;i++) {
+      PoolBase<?> replica = replicas[(start + i) % len];
+      int load = replica.load();
+      if (load < min) {
+        leastLoaded = replica;
+        min = load;
+      }
+    }
+    return leastLoaded;
+  }
+
+  private PoolBase<?> route() {
+    return readOnly ? replica() : primary;
+  }
+
+  @Override
+  public <R> void schedule(CommandBase<R> cmd, Handler<? super CommandResponse<R>> handler) {
+    route().schedule(cmd, handler);
+  }
+
+  @Override
+  public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+    route().getConnection(handler);
+  }
+
+  @Override
+  public void getConnection(long timeout, Handler<AsyncResult<SqlConnection>> handler) {
+    route().getConnection(timeout, handler);
+  }
+
+  @Override
+  public void begin(Handler<AsyncResult<Transaction>> handler) {
+    route().begin(handler);
+  }
+
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      primary.close();
+      for (PoolBase<?> replica : replicas) {
+        replica.close();
+      }
+      if (closeVertx) {
+        vertx.close();
+      }
+    }
+  }
+}
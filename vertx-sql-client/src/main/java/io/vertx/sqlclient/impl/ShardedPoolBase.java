@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * A pool sharded on several event loops, each event loop owns a {@link PoolBase} slice with its own connections.
+ *
+ * Operations are served by the slice of the caller event loop so the pool bookkeeping and the connection I/O
+ * stay on the caller thread. When this slice has no available connection and cannot open a new one, the operation
+ * is stolen by a slice that can serve it. Callers that are not running on one of the pool event loops are
+ * dispatched in a round robin fashion.
+ */
+public abstract class ShardedPoolBase<P extends ShardedPoolBase<P>> extends SqlClientBase<P> implements Pool {
+
+  private final Vertx vertx;
+  private final boolean closeVertx;
+  private final List<PoolBase<?>> slices;
+  private final Map<EventLoop, Integer> indexes = new HashMap<>();
+  private final AtomicInteger next = new AtomicInteger();
+
+  public ShardedPoolBase(Vertx vertx,
+                         boolean closeVertx,
+                         PoolOptions options,
+                         BiFunction<Context, PoolOptions, PoolBase<?>> sliceFactory) {
+    int size = options.getEventLoopSize();
+    if (size < 1) {
+      throw new IllegalArgumentException("Pool event loop size must be > 0");
+    }
+    if (options.getMaxSize() < size) {
+      throw new IllegalArgumentException("Pool max size must be >= event loop size");
+    }
+    this.vertx = vertx;
+    this.closeVertx = closeVertx;
+    this.slices = new ArrayList<>(size);
+    VertxInternal vertxInternal = (VertxInternal) vertx;
+    ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+    for (int i = 0;i < size;i++) {
+      ContextInternal context = vertxInternal.createEventLoopContext(null, null, new JsonObject(), tccl);
+      // Spread the remainder on the first slices so the slice sizes sum to the pool sizes
+      PoolOptions sliceOptions = new PoolOptions(options)
+        .setEventLoopSize(0)
+        .setMaxSize(share(options.getMaxSize(), size, i))
+        .setMinIdle(share(options.getMinIdle(), size, i))
+        .setMaxWaitQueueSize(options.getMaxWaitQueueSize() < 0 ? options.getMaxWaitQueueSize() : share(options.getMaxWaitQueueSize(), size, i))
+        .setMetricsName(options.getMetricsName() + "-" + i);
+      slices.add(sliceFactory.apply(context, sliceOptions));
+      indexes.putIfAbsent(context.nettyEventLoop(), i);
+    }
+  }
+
+  private static int share(int total, int size, int index) {
+    return total / size + (index < total % size ? 1 : 0);
+  }
+
+  /**
+   * Select the slice serving the current thread.
+   */
+  private PoolBase<?> slice() {
+    int index;
+    Context current = Vertx.currentContext();
+    Integer local = current instanceof ContextInternal ? indexes.get(((ContextInternal) current).nettyEventLoop()) : null;
+    if (local != null) {
+      index = local;
+    } else {
+      index = Math.abs(next.getAndIncrement() % slices.size());
+    }
+    PoolBase<?> slice = slices.get(index);
+    if (slice.isSaturated()) {
+      // Steal from another slice
+      for (int i = 1;i < slices.size();i++) {
+        PoolBase<?> other = slices.get((index + i) % slices.size());
+        if (!other.isSaturated()) {
+          return other;
+        }
+      }
+    }
+    return slice;
+  }
+
+  @Override
+  public <R> void schedule(CommandBase<R> cmd, Handler<? super CommandResponse<R>> handler) {
+    slice().schedule(cmd, handler);
+  }
+
+  @Override
+  public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+    slice().getConnection(handler);
+  }
+
+  @Override
+  public void getConnection(long timeout, Handler<AsyncResult<SqlConnection>> handler) {
+    slice().getConnection(timeout, handler);
+  }
+
+  @Override
+  public void begin(Handler<AsyncResult<Transaction>> handler) {
+    slice().begin(handler);
+  }
+
+  @Override
+  public void close() {
+    for (PoolBase<?> slice : slices) {
+      slice.close();
+    }
+    if (closeVertx) {
+      vertx.close();
+    }
+  }
+}
@@ -18,18 +18,34 @@
 package io.vertx.sqlclient.impl;
 
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
 import io.netty.handler.codec.DecoderException;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxException;
 import io.vertx.core.impl.NetSocketInternal;
+import io.vertx.core.impl.NoStackTraceThrowable;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.PropertyKind;
 import io.vertx.sqlclient.impl.command.*;
+import io.vertx.sqlclient.impl.tracing.QueryTrace;
+import io.vertx.sqlclient.spi.metrics.PreparedStatementCacheMetrics;
+import io.vertx.sqlclient.spi.tracing.QueryTracer;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -46,12 +62,27 @@ public abstract class SocketConnectionBase implements Connection {
 
   protected final PreparedStatementCache psCache;
   private final int preparedStatementCacheSqlLimit;
+  private final Map<PreparedStatement, CachedPreparedStatement> retained = new HashMap<>();
   private final StringLongSequence psSeq = new StringLongSequence();
   private final ArrayDeque<CommandBase<?>> pending = new ArrayDeque<>();
+  private final ArrayDeque<CommandBase<?>> executing = new ArrayDeque<>();
   private final Context context;
   private int inflight;
   private Holder holder;
   private final int pipeliningLimit;
+  private final int flushCoalescingMaxBytes;
+  private final long flushCoalescingMaxDelay;
+  private final long queryTimeout;
+  private final int maxPendingQueueSize;
+  private final boolean pipelinedTransactions;
+  private final QueryTracer<?> tracer;
+  private boolean full;
+  private Handler<Void> drainHandler;
+  private boolean flushScheduled;
+  private boolean cancelling;
+  private boolean corked;
+  private List<String> sessionStatements = Collections.emptyList();
+  private List<String> warmUpStatements = Collections.emptyList();
 
   protected final NetSocketInternal socket;
   protected Status status = Status.CONNECTED;
@@ -60,12 +91,27 @@ public abstract class SocketConnectionBase implements Connection {
                               boolean cachePreparedStatements,
                               int preparedStatementCacheSize,
                               int preparedStatementCacheSqlLimit,
+                              PreparedStatementCachePolicy preparedStatementCachePolicy,
+                              int prepareThreshold,
+                              PreparedStatementCacheMetrics preparedStatementCacheMetrics,
                               int pipeliningLimit,
+                              int flushCoalescingMaxBytes,
+                              long flushCoalescingMaxDelay,
+                              long queryTimeout,
+                              int maxPendingQueueSize,
+                              boolean pipelinedTransactions,
+                              QueryTracer<?> tracer,
                               Context context) {
     this.socket = socket;
     this.context = context;
     this.pipeliningLimit = pipeliningLimit;
-    this.psCache = cachePreparedStatements ? new PreparedStatementCache(preparedStatementCacheSize, this) : null;
+    this.flushCoalescingMaxBytes = flushCoalescingMaxBytes;
+    this.flushCoalescingMaxDelay = flushCoalescingMaxDelay;
+    this.queryTimeout = queryTimeout;
+    this.maxPendingQueueSize = maxPendingQueueSize;
+    this.pipelinedTransactions = pipelinedTransactions;
+    this.tracer = tracer;
+    this.psCache = cachePreparedStatements ? new PreparedStatementCache(preparedStatementCacheSize, preparedStatementCachePolicy, prepareThreshold, preparedStatementCacheMetrics) : null;
     this.preparedStatementCacheSqlLimit = preparedStatementCacheSqlLimit;
   }
 
@@ -98,6 +144,36 @@ public abstract class SocketConnectionBase implements Connection {
     this.holder = holder;
   }
 
+  @Override
+  public int inflight() {
+    return inflight + pending.size();
+  }
+
+  @Override
+  public int maxPendingQueueSize() {
+    return maxPendingQueueSize;
+  }
+
+  @Override
+  public boolean pipelinedTransactions() {
+    return pipelinedTransactions;
+  }
+
+  @Override
+  public boolean isStatementCached(String sql) {
+    return psCache != null && psCache.contains(sql);
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return maxPendingQueueSize >= 0 && inflight >= pipeliningLimit && pending.size() >= maxPendingQueueSize;
+  }
+
+  @Override
+  public void drainHandler(Handler<Void> handler) {
+    drainHandler = handler;
+  }
+
   @Override
   public int getProcessId() {
     throw new UnsupportedOperationException();
@@ -108,6 +184,11 @@ public abstract class SocketConnectionBase implements Connection {
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public HostSelector.Host getHost() {
+    throw new UnsupportedOperationException();
+  }
+
   @Override
   public void close(Holder holder) {
     if (Vertx.currentContext() == context) {
@@ -122,6 +203,66 @@ public abstract class SocketConnectionBase implements Connection {
     }
   }
 
+  @Override
+  public boolean reset(Handler<AsyncResult<Void>> handler) {
+    CommandBase<?> cmd = createResetCommand();
+    if (cmd == null) {
+      return false;
+    }
+    reset(cmd, handler);
+    return true;
+  }
+
+  private void reset(CommandBase<?> cmd, Handler<AsyncResult<Void>> handler) {
+    if (psCache != null && resetDeallocatesStatements()) {
+      // The statements are prepared again after the reset
+      psCache.clear();
+      retained.clear();
+    }
+    // The reset discards the session state, the session is initialized again
+    initSession(cmd, handler);
+  }
+
+  /**
+   * @return the command resetting the session state or {@code null} when the connection cannot reset its session
+   */
+  protected CommandBase<?> createResetCommand() {
+    return null;
+  }
+
+  /**
+   * @return whether the reset command deallocates the prepared statements of the session
+   */
+  protected boolean resetDeallocatesStatements() {
+    return true;
+  }
+
+  /**
+   * @return whether the statements that are not cached must be closed after use, otherwise the server releases them,
+   *         e.g. the unnamed PostgreSQL statement is replaced by the next one
+   */
+  protected boolean closeUncachedStatements() {
+    return true;
+  }
+
+  /**
+   * Cancel the execution of {@code cmd} on the server, implementations should check the command is still
+   * {@link #isExecuting(CommandBase) executing} before sending the cancellation.
+   *
+   * @param cmd the command to cancel
+   * @param handler notified when the cancellation is sent
+   */
+  protected void cancelRequest(CommandBase<?> cmd, Handler<AsyncResult<Void>> handler) {
+    handler.handle(Future.failedFuture("Query cancellation is not supported"));
+  }
+
+  /**
+   * @return whether {@code cmd} is the command currently executed by the server
+   */
+  protected final boolean isExecuting(CommandBase<?> cmd) {
+    return executing.peek() == cmd;
+  }
+
   public void schedule(CommandBase<?> cmd) {
     if (cmd.handler == null) {
       throw new IllegalArgumentException();
@@ -130,47 +271,267 @@ public abstract class SocketConnectionBase implements Connection {
       throw new IllegalStateException();
     }
 
+    if (tracer != null && cmd instanceof PrepareStatementCommand) {
+      ((PrepareStatementCommand) cmd).scheduledAt = System.nanoTime();
+    }
+
     // Special handling for cache
     PreparedStatementCache psCache = this.psCache;
     if (psCache != null && cmd instanceof PrepareStatementCommand) {
       PrepareStatementCommand psCmd = (PrepareStatementCommand) cmd;
-      if (psCmd.sql().length() > preparedStatementCacheSqlLimit) {
-        // do not cache the statements
-        return;
+      // do not cache the statements above the limit
+      if (psCmd.sql().length() <= preparedStatementCacheSqlLimit) {
+        CachedPreparedStatement cached = psCache.get(psCmd.sql());
+        if (cached != null) {
+          if (psCmd.held) {
+            cached.holders++;
+          }
+          psCmd.cached = cached;
+          Handler<? super CommandResponse<PreparedStatement>> handler = psCmd.handler;
+          cached.get(handler);
+          return;
+        }
+        // statements below the prepare threshold are not cached
+        if (psCache.promote(psCmd.sql())) {
+          cache(psCmd);
+        } else if (!psCmd.held) {
+          closeAfterUse(psCmd);
+        }
+      } else if (!psCmd.held) {
+        closeAfterUse(psCmd);
       }
-      CachedPreparedStatement cached = psCache.get(psCmd.sql());
-      if (cached != null) {
-        psCmd.cached = cached;
-        Handler<? super CommandResponse<PreparedStatement>> handler = psCmd.handler;
-        cached.get(handler);
-        return;
-      } else {
-        if (psCache.size() >= psCache.getCapacity() && !psCache.isReady()) {
-          // only if the prepared statement is ready then it can be evicted
-        } else {
-          psCmd.statement = psSeq.next();
-          psCmd.cached = cached = new CachedPreparedStatement();
-          psCache.put(psCmd.sql(), cached);
-          Handler<? super CommandResponse<PreparedStatement>> a = psCmd.handler;
-          ((CachedPreparedStatement) psCmd.cached).get(a);
-          psCmd.handler = (Handler<? super CommandResponse<PreparedStatement>>) psCmd.cached;
+    } else if (psCache != null && cmd instanceof CloseStatementCommand && release(((CloseStatementCommand) cmd).statement())) {
+      // the cache closes the statement when it is evicted and no longer used
+      ((CloseStatementCommand) cmd).handler.handle(CommandResponse.success(null));
+      return;
+    }
+
+    enqueue(cmd);
+  }
+
+  /**
+   * Cache the statement prepared by {@code psCmd}, a statement rejected by the cache is closed after use.
+   */
+  private void cache(PrepareStatementCommand psCmd) {
+    CachedPreparedStatement cached = new CachedPreparedStatement();
+    if (psCache.put(psCmd.sql(), cached, this::closeEvicted)) {
+      if (psCmd.held) {
+        cached.holders++;
+      }
+      psCmd.statement = psSeq.next();
+      psCmd.cached = cached;
+      cached.get(psCmd.handler);
+      psCmd.handler = cached;
+    } else if (!psCmd.held) {
+      // the statement would otherwise be kept by the server until the connection is closed
+      closeAfterUse(psCmd);
+    }
+  }
+
+  private void enqueue(CommandBase<?> cmd) {
+    if (cmd instanceof PrepareStatementCommand) {
+      PrepareStatementCommand psCmd = (PrepareStatementCommand) cmd;
+      if (psCmd.arguments != null && psCmd.cached == null) {
+        PreparedStatement ps = prepareOneShot(psCmd.sql(), psCmd.arguments);
+        if (ps != null) {
+          psCmd.handler.handle(CommandResponse.success(ps));
+          return;
         }
       }
     }
 
+    if (tracer != null && cmd instanceof QueryCommandBase) {
+      trace(tracer, (QueryCommandBase<?>) cmd);
+    }
+    if (cmd instanceof QueryCommandBase) {
+      long timeout = ((QueryCommandBase<?>) cmd).timeout;
+      if (timeout == 0) {
+        timeout = queryTimeout;
+      }
+      if (timeout > 0) {
+        armTimeout(cmd, timeout);
+      }
+    }
+
     //
     if (status == Status.CONNECTED) {
+      if (writeQueueFull() && isRejectable(cmd)) {
+        full = true;
+        cmd.fail(new VertxException("Pending command queue is full"));
+        return;
+      }
       pending.add(cmd);
-      checkPending();
+      if (!corked) {
+        checkPending();
+      }
+      if (writeQueueFull()) {
+        full = true;
+      }
     } else {
       cmd.fail(new VertxException("Connection not open " + status));
     }
   }
 
+  /**
+   * Execute the {@code sessionStatements} then prepare the {@code warmUpStatements} in the prepared statement cache,
+   * the commands are pipelined in a single flush. The connection is closed when a command fails. The statements are
+   * executed again after a {@link #reset(Handler) reset} of the session.
+   *
+   * @param handler notified with this connection once the commands completed or with the first failure
+   */
+  public void warmUp(List<String> sessionStatements, List<String> warmUpStatements, Handler<AsyncResult<Connection>> handler) {
+    this.sessionStatements = sessionStatements;
+    this.warmUpStatements = warmUpStatements;
+    initSession(null, ar -> {
+      if (ar.succeeded()) {
+        handler.handle(Future.succeededFuture(this));
+      } else {
+        close(null);
+        handler.handle(Future.failedFuture(ar.cause()));
+      }
+    });
+  }
+
+  /**
+   * Execute the {@code resetCmd} when it is not {@code null}, the session statements then prepare the warm-up
+   * statements that are not cached, the commands are pipelined in a single flush.
+   *
+   * @param handler notified once the commands completed or with the first failure
+   */
+  private void initSession(CommandBase<?> resetCmd, Handler<AsyncResult<Void>> handler) {
+    List<CommandBase<?>> cmds = new ArrayList<>();
+    if (resetCmd != null) {
+      cmds.add(resetCmd);
+    }
+    for (String sql : sessionStatements) {
+      cmds.add(new SimpleQueryCommand<>(sql, false, Collectors.counting(), new QueryResultHandler<Long>() {
+        @Override
+        public <V> void addProperty(PropertyKind<V> property, V value) {
+        }
+        @Override
+        public void handleResult(int updatedCount, int size, RowDesc desc, Long result) {
+        }
+      }));
+    }
+    if (psCache != null) {
+      for (String sql : warmUpStatements) {
+        if (sql.length() <= preparedStatementCacheSqlLimit && !psCache.contains(sql)) {
+          cmds.add(new PrepareStatementCommand(sql));
+        }
+      }
+    }
+    if (cmds.isEmpty()) {
+      handler.handle(Future.succeededFuture());
+      return;
+    }
+    int[] remaining = { cmds.size() };
+    Throwable[] failure = { null };
+    Handler<AsyncResult<?>> completion = ar -> {
+      if (ar.failed() && failure[0] == null) {
+        failure[0] = ar.cause();
+      }
+      if (--remaining[0] == 0) {
+        if (failure[0] == null) {
+          handler.handle(Future.succeededFuture());
+        } else {
+          handler.handle(Future.failedFuture(failure[0]));
+        }
+      }
+    };
+    corked = true;
+    try {
+      for (CommandBase<?> cmd : cmds) {
+        cmd.handler = completion;
+        if (cmd instanceof PrepareStatementCommand) {
+          PrepareStatementCommand psCmd = (PrepareStatementCommand) cmd;
+          // warm-up statements are cached regardless of the prepare threshold
+          cache(psCmd);
+          if (psCmd.cached == null) {
+            completion.handle(Future.succeededFuture());
+            continue;
+          }
+        }
+        enqueue(cmd);
+      }
+    } finally {
+      corked = false;
+    }
+    checkPending();
+  }
+
+  /**
+   * Close the statement prepared by {@code psCmd} without caching it, once the command executing the statement is
+   * scheduled, e.g. MySQL keeps a prepared statement until it is closed.
+   */
+  private void closeAfterUse(PrepareStatementCommand psCmd) {
+    if (!closeUncachedStatements()) {
+      return;
+    }
+    Handler<? super CommandResponse<PreparedStatement>> handler = psCmd.handler;
+    psCmd.handler = ar -> {
+      handler.handle(ar);
+      if (ar.succeeded()) {
+        closeStatement(ar.result());
+      }
+    };
+  }
+
+  /**
+   * Release a cached {@code statement} used by a prepared query.
+   *
+   * @return whether the cache still uses the statement, otherwise the statement must be closed
+   */
+  private boolean release(PreparedStatement statement) {
+    CachedPreparedStatement cached = psCache.get(statement);
+    if (cached != null) {
+      if (cached.holders > 0) {
+        cached.holders--;
+      }
+      return true;
+    }
+    cached = retained.get(statement);
+    if (cached != null) {
+      if (--cached.holders > 0) {
+        return true;
+      }
+      retained.remove(statement);
+    }
+    return false;
+  }
+
+  /**
+   * Close the statement evicted from the cache once it is prepared, the commands using the statement are scheduled
+   * before the close. A statement used by prepared queries is closed when the last of them is closed.
+   */
+  private void closeEvicted(CachedPreparedStatement evicted) {
+    evicted.get(ar -> {
+      if (ar.succeeded() && status == Status.CONNECTED) {
+        if (evicted.holders > 0) {
+          retained.put(ar.result(), evicted);
+          return;
+        }
+        closeStatement(ar.result());
+      }
+    });
+  }
+
+  private void closeStatement(PreparedStatement statement) {
+    if (status == Status.CONNECTED) {
+      CloseStatementCommand cmd = new CloseStatementCommand(statement);
+      cmd.handler = ar -> {
+        if (ar.failed() && status == Status.CONNECTED) {
+          logger.warn("Could not close the prepared statement", ar.cause());
+        }
+      };
+      schedule(cmd);
+    }
+  }
+
   static class CachedPreparedStatement implements Handler<CommandResponse<PreparedStatement>> {
 
     private final Deque<Handler<? super CommandResponse<PreparedStatement>>> waiters = new ArrayDeque<>();
     CommandResponse<PreparedStatement> resp;
+    int holders; // the prepared queries using the statement
 
     void get(Handler<? super CommandResponse<PreparedStatement>> handler) {
       if (resp != null) {
@@ -190,23 +551,192 @@ public abstract class SocketConnectionBase implements Connection {
     }
   }
 
+  /**
+   * Create the statement of a query executed once with {@code arguments} without preparing it first, the statement
+   * is then prepared with the execution of the query in a single round trip.
+   *
+   * @return the statement or {@code null} when the statement must be prepared first
+   */
+  protected PreparedStatement prepareOneShot(String sql, List<Object> arguments) {
+    return null;
+  }
+
+  /**
+   * Fails a query that does not complete within its timeout and cancels its execution on the server, the
+   * connection remains usable once the server has aborted the query. The timer starts when the query is written to
+   * the server, the time spent in the pending queue is not counted.
+   */
+  private class CommandTimeout<R> implements Handler<CommandResponse<R>> {
+
+    private final CommandBase<R> cmd;
+    private final Handler<? super CommandResponse<R>> handler;
+    private final long timeout;
+    private long timerId = -1L;
+    private boolean completed;
+    private boolean expired;
+
+    CommandTimeout(CommandBase<R> cmd, long timeout) {
+      this.cmd = cmd;
+      this.handler = cmd.handler;
+      this.timeout = timeout;
+    }
+
+    void start() {
+      if (!completed) {
+        timerId = context.owner().setTimer(timeout, id -> expire());
+      }
+    }
+
+    @Override
+    public void handle(CommandResponse<R> resp) {
+      if (!completed) {
+        completed = true;
+        if (timerId >= 0) {
+          context.owner().cancelTimer(timerId);
+        }
+        handler.handle(resp);
+      }
+    }
+
+    private void expire() {
+      if (!completed) {
+        completed = true;
+        expired = true;
+        if (isCancellable(cmd)) {
+          cancel(cmd);
+        }
+        // Otherwise the query is cancelled once the server starts executing it
+        handler.handle(CommandResponse.failure(new NoStackTraceThrowable("Timeout while executing the query")));
+      }
+    }
+  }
+
+  /**
+   * @return whether the timed out {@code cmd} can be cancelled on the server: a cancellation is not bound to a query,
+   *         when another query is pipelined behind {@code cmd} the cancellation could reach the server after
+   *         {@code cmd} completed and cancel the next query
+   */
+  private boolean isCancellable(CommandBase<?> cmd) {
+    return isExecuting(cmd) && executing.size() == 1;
+  }
+
+  /**
+   * Trace the query, the tracer is notified before the query handler.
+   */
+  private <T> void trace(QueryTracer<T> tracer, QueryCommandBase<?> cmd) {
+    QueryTrace trace = new QueryTrace(cmd.sql(), cmd.enqueuedAt, cmd.prepareScheduledAt, System.nanoTime());
+    T tracerTrace = tracer.queryStarted(cmd.sql());
+    Handler<? super CommandResponse<Boolean>> handler = cmd.handler;
+    cmd.trace = trace;
+    cmd.handler = resp -> {
+      trace.completed(System.nanoTime());
+      tracer.queryCompleted(tracerTrace, trace, resp.failed() ? resp.cause() : null);
+      handler.handle(resp);
+    };
+  }
+
+  private <R> void armTimeout(CommandBase<R> cmd, long timeout) {
+    cmd.handler = new CommandTimeout<>(cmd, timeout);
+  }
+
+  /**
+   * Cancel {@code cmd}, the pending commands are not written until the cancellation is sent so it cannot abort them.
+   */
+  private void cancel(CommandBase<?> cmd) {
+    cancelling = true;
+    cancelRequest(cmd, ar -> {
+      if (ar.failed()) {
+        logger.warn("Could not cancel the query", ar.cause());
+      }
+      context.runOnContext(v -> {
+        cancelling = false;
+        checkPending();
+      });
+    });
+  }
+
   private void checkPending() {
     ChannelHandlerContext ctx = socket.channelHandlerContext();
-    if (inflight < pipeliningLimit) {
+    if (inflight < pipeliningLimit && !cancelling) {
       CommandBase<?> cmd;
       while (inflight < pipeliningLimit && (cmd = pending.poll()) != null) {
         inflight++;
-        ctx.write(cmd);
+        executing.add(cmd);
+        Handler<?> handler = cmd.handler;
+        if (handler instanceof CommandTimeout) {
+          ((CommandTimeout<?>) handler).start();
+        }
+        cmd.writtenAt = System.nanoTime();
+        QueryTrace trace = cmd instanceof QueryCommandBase ? ((QueryCommandBase<?>) cmd).trace : null;
+        if (trace != null) {
+          trace.writtenAt = cmd.writtenAt;
+          ctx.write(cmd);
+          trace.encodedAt = System.nanoTime();
+        } else {
+          ctx.write(cmd);
+        }
+      }
+      flush(ctx);
+      if (full && pending.size() <= maxPendingQueueSize / 2 && !writeQueueFull()) {
+        full = false;
+        Handler<Void> handler = drainHandler;
+        if (handler != null) {
+          handler.handle(null);
+        }
       }
+    }
+  }
+
+  /**
+   * @return whether {@code cmd} is a query issued by the user, the commands issued by the client itself are never
+   *         rejected
+   */
+  static boolean isRejectable(CommandBase<?> cmd) {
+    return cmd instanceof QueryCommandBase || cmd instanceof PrepareStatementCommand;
+  }
+
+  private void flush(ChannelHandlerContext ctx) {
+    if (flushCoalescingMaxBytes == 0 || status != Status.CONNECTED || unflushedBytes() >= flushCoalescingMaxBytes) {
       ctx.flush();
+    } else if (!flushScheduled) {
+      // Coalesce the commands scheduled until the flush happens
+      flushScheduled = true;
+      Runnable task = () -> {
+        flushScheduled = false;
+        ctx.flush();
+      };
+      if (flushCoalescingMaxDelay > 0) {
+        ctx.channel().eventLoop().schedule(task, flushCoalescingMaxDelay, TimeUnit.MICROSECONDS);
+      } else {
+        ctx.channel().eventLoop().execute(task);
+      }
     }
   }
 
+  /**
+   * @return the number of bytes written to the connection and not yet flushed
+   */
+  protected int unflushedBytes() {
+    ChannelOutboundBuffer buffer = socket.channelHandlerContext().channel().unsafe().outboundBuffer();
+    return buffer != null ? (int) Math.min(buffer.totalPendingWriteBytes(), Integer.MAX_VALUE) : 0;
+  }
+
   private void handleMessage(Object msg) {
     if (msg instanceof CommandResponse) {
       inflight--;
-      checkPending();
       CommandResponse resp =(CommandResponse) msg;
+      CommandBase<?> cmd;
+      while ((cmd = executing.poll()) != null && cmd != resp.cmd) {
+        // Commands without response
+      }
+      cmd = executing.peek();
+      if (cmd != null && isCancellable(cmd)) {
+        Handler<?> handler = cmd.handler;
+        if (handler instanceof CommandTimeout && ((CommandTimeout<?>) handler).expired) {
+          cancel(cmd);
+        }
+      }
+      checkPending();
       resp.cmd.handler.handle(msg);
     } else if (msg instanceof Notification) {
       handleNotification((Notification) msg);
@@ -248,6 +778,7 @@ public abstract class SocketConnectionBase implements Connection {
         }
       }
       Throwable cause = t == null ? new VertxException("closed") : t;
+      executing.clear();
       CommandBase<?> cmd;
       while ((cmd = pending.poll()) != null) {
         CommandBase<?> c = cmd;
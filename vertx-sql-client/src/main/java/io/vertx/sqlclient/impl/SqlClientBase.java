@@ -25,6 +25,7 @@ import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 import io.vertx.sqlclient.SqlResult;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowCollector;
 import io.vertx.sqlclient.SqlClient;
 import io.vertx.sqlclient.Tuple;
 import io.vertx.core.AsyncResult;
@@ -39,51 +40,73 @@ public abstract class SqlClientBase<C extends SqlClient> implements SqlClient, C
 
   @Override
   public C query(String sql, Handler<AsyncResult<RowSet>> handler) {
-    return query(sql, false, RowSetImpl.FACTORY, RowSetImpl.COLLECTOR, handler);
+    return query(sql, 0, false, RowSetImpl.FACTORY, RowSetImpl.COLLECTOR, handler);
+  }
+
+  @Override
+  public C query(String sql, long timeout, Handler<AsyncResult<RowSet>> handler) {
+    return query(sql, timeout, false, RowSetImpl.FACTORY, RowSetImpl.COLLECTOR, handler);
   }
 
   @Override
   public <R> C query(String sql, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler) {
-    return query(sql, true, SqlResultImpl::new, collector, handler);
+    return query(sql, 0, collector instanceof RowCollector, SqlResultImpl::new, collector, handler);
   }
 
   private <R1, R2 extends SqlResultBase<R1, R2>, R3 extends SqlResult<R1>> C query(
     String sql,
+    long timeout,
     boolean singleton,
     Function<R1, R2> factory,
     Collector<Row, ?, R1> collector,
     Handler<AsyncResult<R3>> handler) {
     SqlResultBuilder<R1, R2, R3> b = new SqlResultBuilder<>(factory, handler);
-    schedule(new SimpleQueryCommand<>(sql, singleton, collector, b), b);
+    SimpleQueryCommand<R1> query = new SimpleQueryCommand<>(sql, singleton, collector, b);
+    query.timeout = timeout;
+    schedule(query, b);
     return (C) this;
   }
 
   @Override
   public C preparedQuery(String sql, Tuple arguments, Handler<AsyncResult<RowSet>> handler) {
-    return preparedQuery(sql, arguments, false, RowSetImpl.FACTORY, RowSetImpl.COLLECTOR, handler);
+    return preparedQuery(sql, arguments, 0, false, RowSetImpl.FACTORY, RowSetImpl.COLLECTOR, handler);
+  }
+
+  @Override
+  public C preparedQuery(String sql, Tuple arguments, long timeout, Handler<AsyncResult<RowSet>> handler) {
+    return preparedQuery(sql, arguments, timeout, false, RowSetImpl.FACTORY, RowSetImpl.COLLECTOR, handler);
   }
 
   @Override
   public <R> C preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler) {
-    return preparedQuery(sql, arguments, true, SqlResultImpl::new, collector, handler);
+    return preparedQuery(sql, arguments, 0, collector instanceof RowCollector, SqlResultImpl::new, collector, handler);
   }
 
   private <R1, R2 extends SqlResultBase<R1, R2>, R3 extends SqlResult<R1>> C preparedQuery(
     String sql,
     Tuple arguments,
+    long timeout,
     boolean singleton,
     Function<R1, R2> factory,
     Collector<Row, ?, R1> collector,
     Handler<AsyncResult<R3>> handler) {
-    schedule(new PrepareStatementCommand(sql), cr -> {
+    List<Object> args = (List<Object>) arguments;
+    PrepareStatementCommand prepare = new PrepareStatementCommand(sql);
+    prepare.arguments = args;
+    schedule(prepare, cr -> {
       if (cr.succeeded()) {
         PreparedStatement ps = cr.result();
-        String msg = ps.prepare((List<Object>) arguments);
+        String msg = ps.prepare(args);
         if (msg != null) {
           handler.handle(Future.failedFuture(msg));
         } else {
           SqlResultBuilder<R1, R2, R3> b = new SqlResultBuilder<>(factory, handler);
-          cr.scheduler.schedule(new ExtendedQueryCommand<>(ps, arguments, singleton, collector, b), b);
+          ExtendedQueryCommand<R1> query = new ExtendedQueryCommand<>(ps, arguments, singleton, collector, b);
+          // The trace of the query covers the pool wait and the preparation of its statement
+          query.enqueuedAt = prepare.enqueuedAt;
+          query.prepareScheduledAt = prepare.scheduledAt;
+          query.timeout = timeout;
+          cr.scheduler.schedule(query, b);
         }
       } else {
         handler.handle(Future.failedFuture(cr.cause()));
@@ -109,7 +132,7 @@ public abstract class SqlClientBase<C extends SqlClient> implements SqlClient, C
 
   @Override
   public <R> C preparedBatch(String sql, List<Tuple> batch, Collector<Row, ?, R> collector, Handler<AsyncResult<SqlResult<R>>> handler) {
-    return preparedBatch(sql, batch, true, SqlResultImpl::new, collector, handler);
+    return preparedBatch(sql, batch, collector instanceof RowCollector, SqlResultImpl::new, collector, handler);
   }
 
   private <R1, R2 extends SqlResultBase<R1, R2>, R3 extends SqlResult<R1>> C preparedBatch(
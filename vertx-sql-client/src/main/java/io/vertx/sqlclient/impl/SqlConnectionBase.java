@@ -35,7 +35,9 @@ public abstract class SqlConnectionBase<C extends SqlConnectionBase> extends Sql
   }
 
   public C prepare(String sql, Handler<AsyncResult<PreparedQuery>> handler) {
-    schedule(new PrepareStatementCommand(sql), cr -> {
+    PrepareStatementCommand prepare = new PrepareStatementCommand(sql);
+    prepare.held = true;
+    schedule(prepare, cr -> {
       if (cr.succeeded()) {
         handler.handle(Future.succeededFuture(new PreparedQueryImpl(conn, context, cr.result())));
       } else {
@@ -30,6 +30,7 @@ public abstract class SqlConnectionImpl<C extends SqlConnectionImpl> extends Sql
 
   private volatile Handler<Throwable> exceptionHandler;
   private volatile Handler<Void> closeHandler;
+  private volatile Handler<Void> drainHandler;
   private TransactionImpl tx;
 
   public SqlConnectionImpl(Context context, Connection conn) {
@@ -97,6 +98,27 @@ public abstract class SqlConnectionImpl<C extends SqlConnectionImpl> extends Sql
     return (C) this;
   }
 
+  @Override
+  public boolean writeQueueFull() {
+    TransactionImpl tx = this.tx;
+    return conn.writeQueueFull() || (tx != null && tx.writeQueueFull());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public C drainHandler(Handler<Void> handler) {
+    drainHandler = handler;
+    conn.drainHandler(handler != null ? v -> checkDrained() : null);
+    return (C) this;
+  }
+
+  private void checkDrained() {
+    Handler<Void> handler = drainHandler;
+    if (handler != null && !writeQueueFull()) {
+      handler.handle(null);
+    }
+  }
+
   @Override
   public Transaction begin() {
     return begin(false);
@@ -112,6 +134,7 @@ public abstract class SqlConnectionImpl<C extends SqlConnectionImpl> extends Sql
         close();
       }
     });
+    tx.drainHandler(v -> checkDrained());
     return tx;
   }
 
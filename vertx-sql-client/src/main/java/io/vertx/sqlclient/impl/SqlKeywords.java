@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+/**
+ * Classify SQL statements by their leading keyword.
+ */
+final class SqlKeywords {
+
+  private SqlKeywords() {
+  }
+
+  /**
+   * @return whether the {@code sql} statement starts with one of the {@code keywords}, ignoring the leading
+   *         whitespaces, parentheses and comments
+   */
+  static boolean startsWith(String sql, String[] keywords) {
+    int len = sql.length();
+    int from = 0;
+    while (from < len) {
+      char c = sql.charAt(from);
+      if (Character.isWhitespace(c) || c == '(') {
+        from++;
+      } else if (sql.startsWith("--", from)) {
+        int eol = sql.indexOf('\n', from);
+        from = eol == -1 ? len : eol + 1;
+      } else if (sql.startsWith("/*", from)) {
+        int end = sql.indexOf("*/", from + 2);
+        from = end == -1 ? len : end + 2;
+      } else {
+        break;
+      }
+    }
+    for (String keyword : keywords) {
+      int to = from + keyword.length();
+      if (sql.regionMatches(true, from, keyword, 0, keyword.length()) && (to == len || !Character.isLetterOrDigit(sql.charAt(to)))) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
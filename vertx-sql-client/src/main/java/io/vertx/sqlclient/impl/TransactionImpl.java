@@ -19,6 +19,8 @@ package io.vertx.sqlclient.impl;
 import io.vertx.sqlclient.Transaction;
 import io.vertx.sqlclient.impl.command.CommandResponse;
 import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandScheduler;
+import io.vertx.sqlclient.impl.command.PrepareStatementCommand;
 import io.vertx.sqlclient.impl.command.QueryCommandBase;
 import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 import io.vertx.sqlclient.RowSet;
@@ -35,14 +37,33 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
   private static final int ST_COMPLETED = 3;
 
   private final Handler<Void> disposeHandler;
+  private boolean disposed;
   private Deque<CommandBase<?>> pending = new ArrayDeque<>();
   private Handler<Void> failedHandler;
+  private Handler<Void> drainHandler;
+  private final int maxPendingQueueSize;
+  private boolean full;
   private int status = ST_BEGIN;
 
+  // Pipelined mode: the commands sent and not yet completed, failing one discards the result of its command
+  private final boolean pipelined;
+  private final Deque<Handler<Throwable>> inflight = new ArrayDeque<>();
+  // Pipelined mode: the commands scheduled after a statement preparation wait for the command executing it
+  private final Deque<CommandBase<?>> held = new ArrayDeque<>();
+  private boolean preparing;
+  private boolean ended;
+
   public TransactionImpl(Context context, Connection conn, Handler<Void> disposeHandler) {
     super(context, conn);
     this.disposeHandler = disposeHandler;
-    doSchedule(doQuery("BEGIN", this::afterBegin));
+    this.maxPendingQueueSize = conn.maxPendingQueueSize();
+    this.pipelined = conn.pipelinedTransactions();
+    CommandBase<?> begin = doQuery("BEGIN", this::afterBegin);
+    if (pipelined) {
+      status = ST_PENDING;
+      wrapPipelined(begin);
+    }
+    doSchedule(begin);
   }
 
   private void doSchedule(CommandBase<?> cmd) {
@@ -54,6 +75,12 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
   }
 
   private synchronized void afterBegin(AsyncResult<?> ar) {
+    if (pipelined) {
+      if (ar.failed()) {
+        abort(ar.cause());
+      }
+      return;
+    }
     if (ar.succeeded()) {
       status = ST_PENDING;
     } else {
@@ -62,6 +89,16 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
     checkPending();
   }
 
+  /**
+   * Release the transaction once, a rollback of an aborted transaction ends it again.
+   */
+  private synchronized void dispose() {
+    if (!disposed) {
+      disposed = true;
+      disposeHandler.handle(null);
+    }
+  }
+
   private boolean isComplete(CommandBase<?> cmd) {
     if (cmd instanceof QueryCommandBase<?>) {
       String sql = ((QueryCommandBase) cmd).sql().trim();
@@ -100,22 +137,69 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
         break;
       }
     }
+    if (full && pending.size() <= maxPendingQueueSize / 2 && !writeQueueFull()) {
+      full = false;
+      Handler<Void> handler = drainHandler;
+      if (handler != null) {
+        handler.handle(null);
+      }
+    }
+  }
+
+  /**
+   * @return whether the commands waiting for the previous command of the transaction reached the maximum
+   */
+  synchronized boolean writeQueueFull() {
+    return maxPendingQueueSize >= 0 && (status == ST_BEGIN || status == ST_PROCESSING) && pending.size() >= maxPendingQueueSize;
+  }
+
+  synchronized void drainHandler(Handler<Void> handler) {
+    drainHandler = handler;
   }
 
   @Override
   public <R> void schedule(CommandBase<R> cmd, Handler<? super CommandResponse<R>> handler) {
+    // The command executing a pipelined statement preparation takes its place in the transaction
+    CommandScheduler scheduler = pipelined && cmd instanceof PrepareStatementCommand ? this::resume : this;
     cmd.handler = cr -> {
-      cr.scheduler = this;
+      cr.scheduler = scheduler;
       handler.handle(cr);
     };
     schedule(cmd);
   }
 
   public void schedule(CommandBase<?> cmd) {
+    if (pipelined) {
+      synchronized (this) {
+        if (status == ST_COMPLETED) {
+          cmd.fail(new VertxException("Transaction already completed"));
+          return;
+        }
+        if (isComplete(cmd)) {
+          status = ST_COMPLETED;
+        }
+        if (preparing || held.size() > 0) {
+          held.add(cmd);
+          return;
+        }
+      }
+      send(cmd);
+      return;
+    }
     synchronized (this) {
+      if (writeQueueFull() && SocketConnectionBase.isRejectable(cmd) && !isComplete(cmd)) {
+        full = true;
+        cmd.fail(new VertxException("Pending command queue is full"));
+        return;
+      }
       pending.add(cmd);
     }
     checkPending();
+    synchronized (this) {
+      if (writeQueueFull()) {
+        full = true;
+      }
+    }
   }
 
   private <T> void wrap(CommandBase<T> cmd) {
@@ -134,7 +218,7 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
             context.runOnContext(h);
           }
           schedule(doQuery("ROLLBACK", ar2 -> {
-            disposeHandler.handle(null);
+            dispose();
             handler.handle(ar);
           }));
         } else {
@@ -145,6 +229,113 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
     };
   }
 
+  /**
+   * Send a command without waiting for the completion of the previous commands of the transaction, the commands
+   * scheduled after a statement preparation are held until the preparation completes.
+   */
+  private void send(CommandBase<?> cmd) {
+    synchronized (this) {
+      if (isComplete(cmd)) {
+        ended = true;
+      }
+      if (cmd instanceof PrepareStatementCommand) {
+        preparing = true;
+      }
+      wrapPipelined(cmd);
+    }
+    doSchedule(cmd);
+  }
+
+  /**
+   * Send the command executing a prepared statement before the commands held behind its preparation.
+   */
+  private <R> void resume(CommandBase<R> cmd, Handler<? super CommandResponse<R>> handler) {
+    boolean reserved;
+    synchronized (this) {
+      reserved = preparing;
+    }
+    if (!reserved) {
+      // The transaction was aborted
+      schedule(cmd, handler);
+      return;
+    }
+    cmd.handler = cr -> {
+      cr.scheduler = this;
+      handler.handle(cr);
+    };
+    send(cmd);
+  }
+
+  /**
+   * Send the commands held behind a completed statement preparation, until the next preparation.
+   */
+  private void release() {
+    synchronized (this) {
+      preparing = false;
+    }
+    while (true) {
+      CommandBase<?> cmd;
+      synchronized (this) {
+        if (preparing || (cmd = held.poll()) == null) {
+          return;
+        }
+      }
+      send(cmd);
+    }
+  }
+
+  /**
+   * Wrap a command sent without waiting for the completion of the previous commands of the transaction.
+   */
+  private <T> void wrapPipelined(CommandBase<T> cmd) {
+    Handler<? super CommandResponse<T>> handler = cmd.handler;
+    Handler<Throwable> discard = err -> handler.handle(CommandResponse.failure(err));
+    inflight.add(discard);
+    cmd.handler = ar -> {
+      synchronized (TransactionImpl.this) {
+        if (!inflight.remove(discard)) {
+          // Already failed when the transaction was aborted
+          return;
+        }
+        if (ar.txStatus() == TxStatus.FAILED) {
+          abort(null);
+        }
+      }
+      handler.handle(ar);
+      if (cmd instanceof PrepareStatementCommand) {
+        release();
+      }
+    };
+  }
+
+  /**
+   * Abort a pipelined transaction: the results of the commands already sent are discarded and the transaction
+   * is rolled back, unless the server already received the {@code COMMIT} or {@code ROLLBACK} that ends it.
+   */
+  private void abort(Throwable cause) {
+    Throwable err = cause != null ? cause : new RuntimeException("rollback exception");
+    if (inflight.size() > 0) {
+      Handler<Throwable> discard;
+      while ((discard = inflight.poll()) != null) {
+        discard.handle(err);
+      }
+    }
+    preparing = false;
+    CommandBase<?> cmd;
+    while ((cmd = held.poll()) != null) {
+      cmd.fail(err);
+    }
+    Handler<Void> h = failedHandler;
+    if (h != null) {
+      context.runOnContext(h);
+    }
+    status = ST_COMPLETED;
+    if (!ended) {
+      ended = true;
+      doSchedule(doQuery("ROLLBACK", ar -> dispose()));
+    }
+  }
+
   @Override
   public void commit() {
     commit(null);
@@ -156,7 +347,7 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
       case ST_PENDING:
       case ST_PROCESSING:
         schedule(doQuery("COMMIT", ar -> {
-          disposeHandler.handle(null);
+          dispose();
           if (handler != null) {
             if (ar.succeeded()) {
               handler.handle(Future.succeededFuture());
@@ -181,7 +372,7 @@ public class TransactionImpl extends SqlConnectionBase<TransactionImpl> implemen
 
   public void rollback(Handler<AsyncResult<Void>> handler) {
     schedule(doQuery("ROLLBACK", ar -> {
-      disposeHandler.handle(null);
+      dispose();
       if (handler != null) {
         handler.handle(ar.mapEmpty());
       }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl.columnar;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * A column of a {@link io.vertx.sqlclient.ColumnarRowSet}, the values are appended in row order and the null values
+ * are tracked in a bitmap.
+ */
+public abstract class ColumnVector {
+
+  static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * @return a vector storing the values of the {@code type} Java type
+   */
+  public static ColumnVector create(Class<?> type) {
+    if (type == Integer.class) {
+      return new IntVector();
+    } else if (type == Long.class) {
+      return new LongVector();
+    } else if (type == Double.class) {
+      return new DoubleVector();
+    } else if (type == Boolean.class) {
+      return new BooleanVector();
+    } else if (type == LocalDateTime.class) {
+      return new TimestampVector();
+    } else {
+      return new ObjectVector();
+    }
+  }
+
+  // Allocated with the first null value
+  private long[] nulls;
+  protected int size;
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isNull(int index) {
+    int word = index >>> 6;
+    return nulls != null && word < nulls.length && (nulls[word] & (1L << index)) != 0;
+  }
+
+  public void appendNull() {
+    ensureCapacity(size + 1);
+    int word = size >>> 6;
+    if (nulls == null) {
+      nulls = new long[Math.max(word + 1, 4)];
+    } else if (word >= nulls.length) {
+      nulls = Arrays.copyOf(nulls, Math.max(word + 1, nulls.length * 2));
+    }
+    nulls[word] |= 1L << size;
+    size++;
+  }
+
+  /**
+   * @return the value at {@code index} or {@code null}
+   */
+  public Object get(int index) {
+    return isNull(index) ? null : getValue(index);
+  }
+
+  /**
+   * @return whether the non null {@code value} can be appended to this vector
+   */
+  public abstract boolean accepts(Object value);
+
+  /**
+   * Append a non null {@code value}.
+   */
+  public abstract void append(Object value);
+
+  protected abstract Object getValue(int index);
+
+  protected abstract void ensureCapacity(int capacity);
+
+  /**
+   * Trim the values to the size of the vector once it is complete.
+   */
+  protected abstract void trim();
+
+  /**
+   * @return a vector boxing the values of this vector, for a column whose values do not fit in this vector
+   */
+  ObjectVector toObjectVector() {
+    ObjectVector vector = new ObjectVector();
+    for (int i = 0;i < size;i++) {
+      if (isNull(i)) {
+        vector.appendNull();
+      } else {
+        vector.append(getValue(i));
+      }
+    }
+    return vector;
+  }
+
+  static int grow(int length, int capacity) {
+    return Math.max(capacity, length * 2);
+  }
+}
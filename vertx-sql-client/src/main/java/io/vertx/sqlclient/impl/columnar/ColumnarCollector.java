@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl.columnar;
+
+import io.vertx.sqlclient.ColumnarRowSet;
+import io.vertx.sqlclient.Row;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * The collector of a {@link ColumnarRowSet}, the decoders recognize it and append the column values to the
+ * container without creating rows.
+ */
+public class ColumnarCollector implements Collector<Row, ColumnarRowSetImpl, ColumnarRowSet> {
+
+  public static final ColumnarCollector INSTANCE = new ColumnarCollector();
+
+  /**
+   * @return whether {@code collector} creates a columnar row set
+   */
+  public static boolean isColumnar(Collector<Row, ?, ?> collector) {
+    return collector instanceof ColumnarCollector;
+  }
+
+  private ColumnarCollector() {
+  }
+
+  @Override
+  public Supplier<ColumnarRowSetImpl> supplier() {
+    return ColumnarRowSetImpl::new;
+  }
+
+  @Override
+  public BiConsumer<ColumnarRowSetImpl, Row> accumulator() {
+    return ColumnarRowSetImpl::accumulate;
+  }
+
+  @Override
+  public BinaryOperator<ColumnarRowSetImpl> combiner() {
+    // Shall not be invoked as this is sequential
+    return (set1, set2) -> null;
+  }
+
+  @Override
+  public Function<ColumnarRowSetImpl, ColumnarRowSet> finisher() {
+    return ColumnarRowSetImpl::complete;
+  }
+
+  @Override
+  public Set<Characteristics> characteristics() {
+    return Collections.emptySet();
+  }
+}
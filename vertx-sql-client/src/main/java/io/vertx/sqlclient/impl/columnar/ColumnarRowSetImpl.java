@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl.columnar;
+
+import io.vertx.sqlclient.ColumnarRowSet;
+import io.vertx.sqlclient.Row;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * The container of the {@link ColumnarCollector}, the decoders append the values column by column and end each row.
+ */
+public class ColumnarRowSetImpl implements ColumnarRowSet {
+
+  private List<String> columnNames;
+  private ColumnVector[] vectors;
+  private Supplier<Row> rowFactory;
+  private int size;
+
+  /**
+   * Initialize the columns before the first row.
+   *
+   * @param vectors the column vectors, a {@code null} vector is created from the first non null value of its column
+   * @param rowFactory the factory of the empty rows filled by {@link #getRow(int)}
+   */
+  public void init(List<String> columnNames, ColumnVector[] vectors, Supplier<Row> rowFactory) {
+    this.columnNames = columnNames;
+    this.vectors = vectors;
+    this.rowFactory = rowFactory;
+  }
+
+  public boolean isInitialized() {
+    return vectors != null;
+  }
+
+  public ColumnVector vector(int column) {
+    return vectors[column];
+  }
+
+  public void appendNull(int column) {
+    ColumnVector vector = vectors[column];
+    if (vector != null) {
+      vector.appendNull();
+    }
+  }
+
+  public void append(int column, Object value) {
+    if (value == null) {
+      appendNull(column);
+      return;
+    }
+    ColumnVector vector = vectors[column];
+    if (vector == null) {
+      vector = ColumnVector.create(value.getClass());
+      for (int i = 0;i < size;i++) {
+        vector.appendNull();
+      }
+      vectors[column] = vector;
+    } else if (!vector.accepts(value)) {
+      vector = vector.toObjectVector();
+      vectors[column] = vector;
+    }
+    vector.append(value);
+  }
+
+  public void endRow() {
+    size++;
+  }
+
+  /**
+   * Append the values of a {@code row} created by a decoder that does not recognize the collector.
+   */
+  void accumulate(Row row) {
+    int len = row.size();
+    if (vectors == null) {
+      List<String> names = new ArrayList<>(len);
+      for (int c = 0;c < len;c++) {
+        names.add(row.getColumnName(c));
+      }
+      init(Collections.unmodifiableList(names), new ColumnVector[len], null);
+    }
+    for (int c = 0;c < len;c++) {
+      append(c, row.getValue(c));
+    }
+    endRow();
+  }
+
+  ColumnarRowSet complete() {
+    if (vectors == null) {
+      init(Collections.emptyList(), new ColumnVector[0], null);
+    }
+    for (int c = 0;c < vectors.length;c++) {
+      ColumnVector vector = vectors[c];
+      if (vector == null) {
+        // Only null values
+        vector = new ObjectVector();
+        for (int i = 0;i < size;i++) {
+          vector.appendNull();
+        }
+        vectors[c] = vector;
+      }
+      vector.trim();
+    }
+    return this;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public List<String> columnNames() {
+    return columnNames;
+  }
+
+  @Override
+  public int columnIndex(String name) {
+    if (name == null) {
+      throw new NullPointerException("Column name must not be null");
+    }
+    return columnNames.indexOf(name);
+  }
+
+  @Override
+  public boolean isNull(int row, int column) {
+    return vectors[column].isNull(row);
+  }
+
+  @Override
+  public Object getValue(int row, int column) {
+    return vectors[column].get(row);
+  }
+
+  @Override
+  public int[] getIntColumn(int column) {
+    return vector(column, IntVector.class).values();
+  }
+
+  @Override
+  public long[] getLongColumn(int column) {
+    return vector(column, LongVector.class).values();
+  }
+
+  @Override
+  public double[] getDoubleColumn(int column) {
+    return vector(column, DoubleVector.class).values();
+  }
+
+  @Override
+  public boolean[] getBooleanColumn(int column) {
+    return vector(column, BooleanVector.class).values();
+  }
+
+  @Override
+  public Object[] getColumn(int column) {
+    ColumnVector vector = vectors[column];
+    if (vector instanceof ObjectVector) {
+      return ((ObjectVector) vector).values();
+    }
+    Object[] values = new Object[size];
+    for (int i = 0;i < size;i++) {
+      values[i] = vector.get(i);
+    }
+    return values;
+  }
+
+  private <V extends ColumnVector> V vector(int column, Class<V> type) {
+    ColumnVector vector = vectors[column];
+    if (!type.isInstance(vector)) {
+      throw new IllegalStateException("Column " + columnNames.get(column) + " is not stored in a " + type.getSimpleName());
+    }
+    return type.cast(vector);
+  }
+
+  @Override
+  public Row getRow(int row) {
+    if (rowFactory == null) {
+      throw new UnsupportedOperationException("Rows are only available when the collector is passed directly to the query");
+    }
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("Invalid row index " + row);
+    }
+    Row r = rowFactory.get();
+    for (ColumnVector vector : vectors) {
+      r.addValue(vector.get(row));
+    }
+    return r;
+  }
+
+  @Override
+  public Iterator<Row> iterator() {
+    return new Iterator<Row>() {
+      int index;
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+      @Override
+      public Row next() {
+        if (index >= size) {
+          throw new NoSuchElementException();
+        }
+        return getRow(index++);
+      }
+    };
+  }
+}
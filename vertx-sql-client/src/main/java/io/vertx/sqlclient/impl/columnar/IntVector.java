@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl.columnar;
+
+import java.util.Arrays;
+
+/**
+ * A vector of {@code int} values.
+ */
+public class IntVector extends ColumnVector {
+
+  private int[] values = new int[INITIAL_CAPACITY];
+
+  public void appendInt(int value) {
+    ensureCapacity(size + 1);
+    values[size++] = value;
+  }
+
+  public int getInt(int index) {
+    return values[index];
+  }
+
+  /**
+   * @return the values, the null values are {@code 0}
+   */
+  public int[] values() {
+    trim();
+    return values;
+  }
+
+  @Override
+  public boolean accepts(Object value) {
+    return value instanceof Integer;
+  }
+
+  @Override
+  public void append(Object value) {
+    appendInt((Integer) value);
+  }
+
+  @Override
+  protected Object getValue(int index) {
+    return values[index];
+  }
+
+  @Override
+  protected void ensureCapacity(int capacity) {
+    if (capacity > values.length) {
+      values = Arrays.copyOf(values, grow(values.length, capacity));
+    }
+  }
+
+  @Override
+  protected void trim() {
+    if (values.length != size) {
+      values = Arrays.copyOf(values, size);
+    }
+  }
+}
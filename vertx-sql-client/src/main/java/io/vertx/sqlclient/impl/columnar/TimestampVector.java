@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl.columnar;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * A vector of {@link LocalDateTime} values stored as microseconds since the epoch.
+ */
+public class TimestampVector extends LongVector {
+
+  private static final long MICROS_PER_SECOND = 1_000_000L;
+
+  public static long toMicros(LocalDateTime value) {
+    return value.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + value.getNano() / 1000;
+  }
+
+  public static LocalDateTime fromMicros(long micros) {
+    long seconds = Math.floorDiv(micros, MICROS_PER_SECOND);
+    int nanos = (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1000;
+    return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+  }
+
+  @Override
+  public boolean accepts(Object value) {
+    return value instanceof LocalDateTime;
+  }
+
+  @Override
+  public void append(Object value) {
+    appendLong(toMicros((LocalDateTime) value));
+  }
+
+  @Override
+  protected Object getValue(int index) {
+    return fromMicros(getLong(index));
+  }
+}
@@ -26,6 +26,7 @@ import io.vertx.core.Handler;
 public abstract class CommandBase<R> {
 
   public Handler<? super CommandResponse<R>> handler;
+  public long writtenAt; // when the command is written to the server or 0, captured with System.nanoTime()
 
   public final void fail(Throwable err) {
     handler.handle(CommandResponse.failure(err));
@@ -19,11 +19,17 @@ package io.vertx.sqlclient.impl.command;
 
 import io.vertx.sqlclient.impl.PreparedStatement;
 
+import java.util.List;
+
 public class PrepareStatementCommand extends CommandBase<PreparedStatement> {
 
   private final String sql;
   public long statement; // 0 means unamed statement otherwise CString
   public Object cached;
+  public List<Object> arguments; // the arguments of a statement executed once or null
+  public boolean held; // the statement is used until a prepared query closes it
+  public long enqueuedAt; // when the statement waited for a pooled connection or 0
+  public long scheduledAt; // when the statement is scheduled on a connection tracing its queries or 0
 
   public PrepareStatementCommand(String sql) {
     this.sql = sql;
@@ -19,6 +19,7 @@ package io.vertx.sqlclient.impl.command;
 
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.impl.QueryResultHandler;
+import io.vertx.sqlclient.impl.tracing.QueryTrace;
 
 import java.util.stream.Collector;
 
@@ -31,6 +32,18 @@ public abstract class QueryCommandBase<T> extends CommandBase<Boolean> {
   private final QueryResultHandler<T> resultHandler;
   private final Collector<Row, ?, T> collector;
 
+  // When the query waited for a pooled connection
+  public long enqueuedAt;
+
+  // When the statement of a prepared query was scheduled
+  public long prepareScheduledAt;
+
+  // The trace when the query is traced
+  public QueryTrace trace;
+
+  // The timeout of the query in milliseconds, 0 to use the query timeout of the connection
+  public long timeout;
+
   QueryCommandBase(Collector<Row, ?, T> collector, QueryResultHandler<T> resultHandler) {
     this.resultHandler = resultHandler;
     this.collector = collector;
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl.metrics;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.spi.metrics.ConnectionPoolMetrics;
+import io.vertx.sqlclient.spi.metrics.ConnectionPoolMetricsFactory;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Report the pool requests to the Vert.x {@link PoolMetrics}, the connection level events have no Vert.x counterpart
+ * and are ignored.
+ */
+public class VertxConnectionPoolMetrics<T> implements ConnectionPoolMetrics<T> {
+
+  public static final String POOL_TYPE = "sql";
+
+  /**
+   * Create the metrics of a pool, using the first {@link ConnectionPoolMetricsFactory} found or the Vert.x
+   * metrics when they are enabled.
+   *
+   * @return the metrics or {@code null} when there are no metrics
+   */
+  @SuppressWarnings("unchecked")
+  public static ConnectionPoolMetrics<?> create(Vertx vertx, PoolOptions options) {
+    Iterator<ConnectionPoolMetricsFactory> it = ServiceLoader.load(ConnectionPoolMetricsFactory.class).iterator();
+    if (it.hasNext()) {
+      return it.next().create(vertx, options);
+    }
+    if (vertx.isMetricsEnabled()) {
+      VertxMetrics metrics = ((VertxInternal) vertx).metricsSPI();
+      PoolMetrics<?> poolMetrics = metrics != null ? metrics.createPoolMetrics(POOL_TYPE, options.getMetricsName(), options.getMaxSize()) : null;
+      if (poolMetrics != null) {
+        return new VertxConnectionPoolMetrics<>((PoolMetrics<Object>) poolMetrics);
+      }
+    }
+    return null;
+  }
+
+  private final PoolMetrics<T> metrics;
+
+  private VertxConnectionPoolMetrics(PoolMetrics<T> metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public T enqueued() {
+    return metrics.submitted();
+  }
+
+  @Override
+  public T acquired(T requestMetric) {
+    return metrics.begin(requestMetric);
+  }
+
+  @Override
+  public void rejected(T requestMetric) {
+    metrics.rejected(requestMetric);
+  }
+
+  @Override
+  public void released(T usageMetric) {
+    metrics.end(usageMetric, true);
+  }
+
+  @Override
+  public void close() {
+    metrics.close();
+  }
+}
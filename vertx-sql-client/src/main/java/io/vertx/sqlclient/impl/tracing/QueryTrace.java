@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.vertx.sqlclient.impl.tracing;
+
+import io.vertx.sqlclient.spi.tracing.QueryTimings;
+
+/**
+ * The timestamps of a traced query, captured with {@link System#nanoTime()} from the connection event loop.
+ */
+public class QueryTrace implements QueryTimings {
+
+  private final String sql;
+  private final long enqueuedAt;
+  private final long prepareScheduledAt;
+  private final long scheduledAt;
+  public long writtenAt;
+  public long encodedAt;
+  private long firstRowAt;
+  private long decodeTime;
+  private long completedAt;
+
+  /**
+   * @param sql the query SQL
+   * @param enqueuedAt when the query waited for a pooled connection or {@code 0}
+   * @param scheduledAt when the query is scheduled on the connection
+   */
+  public QueryTrace(String sql, long enqueuedAt, long scheduledAt) {
+    this(sql, enqueuedAt, 0, scheduledAt);
+  }
+
+  /**
+   * @param sql the query SQL
+   * @param enqueuedAt when the query waited for a pooled connection or {@code 0}
+   * @param prepareScheduledAt when the statement of a prepared query is scheduled on the connection or {@code 0}
+   * @param scheduledAt when the query is scheduled on the connection
+   */
+  public QueryTrace(String sql, long enqueuedAt, long prepareScheduledAt, long scheduledAt) {
+    this.sql = sql;
+    this.enqueuedAt = enqueuedAt;
+    this.prepareScheduledAt = prepareScheduledAt;
+    this.scheduledAt = scheduledAt;
+  }
+
+  /**
+   * Record the decoding of a row.
+   */
+  public void rowDecoded(long start, long end) {
+    if (firstRowAt == 0) {
+      firstRowAt = start;
+    }
+    decodeTime += end - start;
+  }
+
+  public void completed(long now) {
+    completedAt = now;
+  }
+
+  @Override
+  public String sql() {
+    return sql;
+  }
+
+  @Override
+  public long acquireTime() {
+    return enqueuedAt != 0 ? startedAt() - enqueuedAt : 0;
+  }
+
+  @Override
+  public long prepareTime() {
+    return prepareScheduledAt != 0 ? scheduledAt - prepareScheduledAt : 0;
+  }
+
+  @Override
+  public long queueTime() {
+    return writtenAt != 0 ? writtenAt - scheduledAt : 0;
+  }
+
+  @Override
+  public long encodeTime() {
+    return encodedAt != 0 ? encodedAt - writtenAt : 0;
+  }
+
+  @Override
+  public long serverTime() {
+    if (encodedAt == 0) {
+      return 0;
+    }
+    return (firstRowAt != 0 ? firstRowAt : completedAt) - encodedAt;
+  }
+
+  @Override
+  public long decodeTime() {
+    return decodeTime;
+  }
+
+  @Override
+  public long totalTime() {
+    return completedAt - (enqueuedAt != 0 ? enqueuedAt : startedAt());
+  }
+
+  /**
+   * @return when the connection started the query, i.e. the preparation of its statement when it has one
+   */
+  private long startedAt() {
+    return prepareScheduledAt != 0 ? prepareScheduledAt : scheduledAt;
+  }
+}
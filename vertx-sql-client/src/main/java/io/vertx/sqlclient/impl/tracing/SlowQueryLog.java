@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.vertx.sqlclient.impl.tracing;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.sqlclient.SqlConnectOptions;
+import io.vertx.sqlclient.spi.tracing.QueryTimings;
+import io.vertx.sqlclient.spi.tracing.QueryTracer;
+import io.vertx.sqlclient.spi.tracing.QueryTracerFactory;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Log the queries taking longer than a threshold with their timings, a sample rate limits the volume of the log.
+ */
+public class SlowQueryLog implements QueryTracer<Void> {
+
+  private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+
+  /**
+   * Create the tracer of a client, using the first {@link QueryTracerFactory} found or the slow query log when
+   * a slow query threshold is configured.
+   *
+   * @return the tracer or {@code null} when the queries are not traced
+   */
+  public static QueryTracer<?> create(Vertx vertx, SqlConnectOptions options) {
+    Iterator<QueryTracerFactory> it = ServiceLoader.load(QueryTracerFactory.class).iterator();
+    if (it.hasNext()) {
+      return it.next().create(vertx, options);
+    }
+    if (options.getSlowQueryThreshold() > 0) {
+      return new SlowQueryLog(options.getSlowQueryThreshold(), options.getSlowQuerySampleRate());
+    }
+    return null;
+  }
+
+  private final long threshold;
+  private final double sampleRate;
+
+  SlowQueryLog(long threshold, double sampleRate) {
+    this.threshold = TimeUnit.MILLISECONDS.toNanos(threshold);
+    this.sampleRate = sampleRate;
+  }
+
+  @Override
+  public void queryCompleted(Void trace, QueryTimings timings, Throwable failure) {
+    if (timings.totalTime() >= threshold && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+      logger.warn(String.format("Slow query (%d ms, acquire=%d us, prepare=%d us, queue=%d us, encode=%d us, server=%d us, decode=%d us%s): %s",
+        TimeUnit.NANOSECONDS.toMillis(timings.totalTime()),
+        TimeUnit.NANOSECONDS.toMicros(timings.acquireTime()),
+        TimeUnit.NANOSECONDS.toMicros(timings.prepareTime()),
+        TimeUnit.NANOSECONDS.toMicros(timings.queueTime()),
+        TimeUnit.NANOSECONDS.toMicros(timings.encodeTime()),
+        TimeUnit.NANOSECONDS.toMicros(timings.serverTime()),
+        TimeUnit.NANOSECONDS.toMicros(timings.decodeTime()),
+        failure != null ? ", failed" : "",
+        timings.sql()));
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.spi.metrics;
+
+/**
+ * The metrics SPI of a connection pool, the pool calls these methods from its event loop.
+ *
+ * Like the Vert.x {@code PoolMetrics}, the {@code T} metric object returned when a request is enqueued is given back
+ * when the request obtains a connection, so an implementation can measure the time spent waiting for a connection
+ * and the time a connection is in use. The default methods do nothing.
+ *
+ * @param <T> the request metric type
+ */
+public interface ConnectionPoolMetrics<T> {
+
+  /**
+   * A request for a connection is enqueued.
+   *
+   * @return the request metric
+   */
+  default T enqueued() {
+    return null;
+  }
+
+  /**
+   * A request obtained a connection.
+   *
+   * @param requestMetric the request metric
+   * @return the metric of the connection usage
+   */
+  default T acquired(T requestMetric) {
+    return null;
+  }
+
+  /**
+   * A request failed before obtaining a connection: timeout, wait queue full, connect failure or pool closed.
+   *
+   * @param requestMetric the request metric
+   */
+  default void rejected(T requestMetric) {
+  }
+
+  /**
+   * A connection obtained with {@link #acquired} is returned to the pool and the commands scheduled while it was
+   * borrowed are completed. A pool query borrows a connection for the execution of a single command, so its usage
+   * measures the command execution and not only the time the connection is borrowed.
+   *
+   * @param usageMetric the metric of the connection usage
+   */
+  default void released(T usageMetric) {
+  }
+
+  /**
+   * A new connection is opened.
+   */
+  default void connectionCreated() {
+  }
+
+  /**
+   * A connection could not be opened.
+   */
+  default void connectionFailed() {
+  }
+
+  /**
+   * A connection is closed.
+   */
+  default void connectionClosed() {
+  }
+
+  /**
+   * A command is scheduled on a pooled connection.
+   *
+   * @param inflight the number of commands in-flight on the connection, including this command
+   */
+  default void commandScheduled(int inflight) {
+  }
+
+  /**
+   * A command scheduled on a pooled connection is completed.
+   *
+   * @param inflight the number of commands still in-flight on the connection
+   */
+  default void commandCompleted(int inflight) {
+  }
+
+  /**
+   * The pool is closed.
+   */
+  default void close() {
+  }
+}
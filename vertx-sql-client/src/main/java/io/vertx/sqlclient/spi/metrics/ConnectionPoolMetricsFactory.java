@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.spi.metrics;
+
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.PoolOptions;
+
+/**
+ * Create the {@link ConnectionPoolMetrics} of a pool, the factory is discovered with the {@link java.util.ServiceLoader}.
+ *
+ * When no factory is found and the Vert.x metrics are enabled, the pool reports to the Vert.x {@code PoolMetrics}.
+ */
+public interface ConnectionPoolMetricsFactory {
+
+  /**
+   * Create the pool metrics.
+   *
+   * @param vertx the Vert.x instance
+   * @param options the pool options
+   * @return the metrics or {@code null} to disable the metrics for this pool
+   */
+  ConnectionPoolMetrics<?> create(Vertx vertx, PoolOptions options);
+
+}
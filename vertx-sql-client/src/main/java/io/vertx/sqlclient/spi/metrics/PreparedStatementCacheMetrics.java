@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.spi.metrics;
+
+/**
+ * The metrics SPI of the prepared statement caches of the connections created with the same connect options, the
+ * connections call these methods from their event loop. The default methods do nothing.
+ *
+ * The hit ratio and the number of evictions are used to size
+ * {@link io.vertx.sqlclient.SqlConnectOptions#setPreparedStatementCacheMaxSize(int)}.
+ */
+public interface PreparedStatementCacheMetrics {
+
+  /**
+   * A prepared statement is found in the cache.
+   */
+  default void hit() {
+  }
+
+  /**
+   * A prepared statement is not found in the cache.
+   */
+  default void miss() {
+  }
+
+  /**
+   * A prepared statement is evicted from the cache to make room for a new statement.
+   */
+  default void evicted() {
+  }
+
+  /**
+   * A new prepared statement is not cached because it is used less frequently than the statement it would evict.
+   */
+  default void rejected() {
+  }
+}
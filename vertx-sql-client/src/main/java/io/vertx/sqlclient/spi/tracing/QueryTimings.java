@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.vertx.sqlclient.spi.tracing;
+
+/**
+ * The timings of a query, each phase is measured in nanoseconds and is {@code 0} when the query did not reach it.
+ */
+public interface QueryTimings {
+
+  /**
+   * @return the query SQL
+   */
+  String sql();
+
+  /**
+   * @return the time spent waiting for a connection of the pool, {@code 0} when the query is not executed by a pool
+   */
+  long acquireTime();
+
+  /**
+   * @return the time spent preparing the statement of a prepared query, {@code 0} when the query did not prepare it
+   */
+  long prepareTime();
+
+  /**
+   * @return the time spent waiting behind the pipelining limit of the connection
+   */
+  long queueTime();
+
+  /**
+   * @return the time spent encoding the query
+   */
+  long encodeTime();
+
+  /**
+   * @return the time between the end of the encoding and the first row or the response when there is no row
+   */
+  long serverTime();
+
+  /**
+   * @return the time spent decoding the rows
+   */
+  long decodeTime();
+
+  /**
+   * @return the time between the query, or the preparation of its statement, being scheduled and its completion
+   */
+  long totalTime();
+
+}
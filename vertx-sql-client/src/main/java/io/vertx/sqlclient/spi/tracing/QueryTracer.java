@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.vertx.sqlclient.spi.tracing;
+
+/**
+ * The tracing SPI of the queries, the connection calls these methods from its event loop.
+ *
+ * The {@code T} trace object returned when a query starts is given back when the query completes along with its
+ * {@link QueryTimings timings}. The default methods do nothing.
+ *
+ * @param <T> the trace type
+ */
+public interface QueryTracer<T> {
+
+  /**
+   * A query is scheduled on a connection.
+   *
+   * @param sql the query SQL
+   * @return the trace
+   */
+  default T queryStarted(String sql) {
+    return null;
+  }
+
+  /**
+   * A query completed.
+   *
+   * @param trace the trace returned by {@link #queryStarted}
+   * @param timings the query timings
+   * @param failure the failure or {@code null} when the query succeeded
+   */
+  default void queryCompleted(T trace, QueryTimings timings, Throwable failure) {
+  }
+}
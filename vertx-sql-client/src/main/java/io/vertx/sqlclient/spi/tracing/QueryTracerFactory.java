@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.vertx.sqlclient.spi.tracing;
+
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.SqlConnectOptions;
+
+/**
+ * Create the {@link QueryTracer} of a client, the factory is discovered with the {@link java.util.ServiceLoader}.
+ *
+ * When no factory is found and a slow query threshold is configured, the client logs the slow queries.
+ */
+public interface QueryTracerFactory {
+
+  /**
+   * Create the query tracer.
+   *
+   * @param vertx the Vert.x instance
+   * @param options the connect options
+   * @return the tracer or {@code null} to disable the tracing for this client
+   */
+  QueryTracer<?> create(Vertx vertx, SqlConnectOptions options);
+
+}
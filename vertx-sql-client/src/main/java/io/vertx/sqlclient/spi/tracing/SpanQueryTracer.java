@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.vertx.sqlclient.spi.tracing;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapt the query lifecycle to a span based tracer such as OpenTracing: a span is started for each query, tagged
+ * following the OpenTracing semantic conventions and with the query timings in microseconds, then finished.
+ *
+ * @param <S> the span type
+ */
+public abstract class SpanQueryTracer<S> implements QueryTracer<S> {
+
+  public static final String OPERATION_NAME = "Query";
+  public static final String COMPONENT = "vertx-sql-client";
+
+  /**
+   * Start a span.
+   *
+   * @param operationName the operation name
+   * @return the span
+   */
+  protected abstract S startSpan(String operationName);
+
+  /**
+   * Tag a span.
+   *
+   * @param span the span
+   * @param key the tag key
+   * @param value the tag value, a {@code String}, a {@code Number} or a {@code Boolean}
+   */
+  protected abstract void setTag(S span, String key, Object value);
+
+  /**
+   * Finish a span.
+   *
+   * @param span the span
+   */
+  protected abstract void finishSpan(S span);
+
+  @Override
+  public S queryStarted(String sql) {
+    S span = startSpan(OPERATION_NAME);
+    setTag(span, "component", COMPONENT);
+    setTag(span, "span.kind", "client");
+    setTag(span, "db.type", "sql");
+    setTag(span, "db.statement", sql);
+    return span;
+  }
+
+  @Override
+  public void queryCompleted(S span, QueryTimings timings, Throwable failure) {
+    setTag(span, "db.acquire_time_us", micros(timings.acquireTime()));
+    setTag(span, "db.prepare_time_us", micros(timings.prepareTime()));
+    setTag(span, "db.queue_time_us", micros(timings.queueTime()));
+    setTag(span, "db.encode_time_us", micros(timings.encodeTime()));
+    setTag(span, "db.server_time_us", micros(timings.serverTime()));
+    setTag(span, "db.decode_time_us", micros(timings.decodeTime()));
+    if (failure != null) {
+      setTag(span, "error", true);
+      setTag(span, "error.message", String.valueOf(failure.getMessage()));
+    }
+    finishSpan(span);
+  }
+
+  private static long micros(long nanos) {
+    return TimeUnit.NANOSECONDS.toMicros(nanos);
+  }
+}
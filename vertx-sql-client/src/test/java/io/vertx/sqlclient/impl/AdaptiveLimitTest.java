@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AdaptiveLimitTest {
+
+  private static boolean window(AdaptiveLimit limit, long rtt, int depth, int demand) {
+    boolean changed = false;
+    for (int i = 0;i < AdaptiveLimit.WINDOW;i++) {
+      changed = limit.roundTrip(rtt, depth, demand);
+    }
+    return changed;
+  }
+
+  @Test
+  public void testStartAtMax() {
+    AdaptiveLimit limit = new AdaptiveLimit(1, 3);
+    assertEquals(3, limit.limit());
+  }
+
+  @Test
+  public void testIncreaseWhenDemandExceedsLimit() {
+    AdaptiveLimit limit = new AdaptiveLimit(1, 3);
+    window(limit, 100, 1, 1);
+    window(limit, 100, 1, 1);
+    assertEquals(1, limit.limit());
+    for (int i = 2;i <= 3;i++) {
+      assertTrue(window(limit, 100, 1, i));
+      assertEquals(i, limit.limit());
+    }
+    assertFalse(window(limit, 100, 1, 4));
+    assertEquals(3, limit.limit());
+  }
+
+  @Test
+  public void testPipelinedRoundTrip() {
+    AdaptiveLimit limit = new AdaptiveLimit(1, 3);
+    window(limit, 100, 1, 1);
+    assertEquals(2, limit.limit());
+    // Commands queued behind 3 commands on a single connection are not an overload
+    assertTrue(window(limit, 400, 4, 4));
+    assertEquals(3, limit.limit());
+  }
+
+  @Test
+  public void testDecreaseWhenOverloaded() {
+    AdaptiveLimit limit = new AdaptiveLimit(1, 8);
+    assertFalse(window(limit, 100, 1, 9));
+    assertEquals(8, limit.limit());
+    assertTrue(window(limit, 1000, 1, 9));
+    assertEquals(6, limit.limit());
+  }
+
+  @Test
+  public void testDecreaseWhenUnused() {
+    AdaptiveLimit limit = new AdaptiveLimit(2, 4);
+    assertFalse(window(limit, 100, 1, 4));
+    assertEquals(4, limit.limit());
+    assertTrue(window(limit, 100, 1, 1));
+    assertEquals(3, limit.limit());
+    assertTrue(window(limit, 100, 1, 1));
+    assertEquals(2, limit.limit());
+    assertFalse(window(limit, 100, 1, 1));
+    assertEquals(2, limit.limit());
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.HostSelection;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class HostSelectorTest {
+
+  @Test
+  public void testParse() {
+    HostSelector.Host host = HostSelector.Host.parse("localhost", 5432);
+    assertEquals("localhost", host.host());
+    assertEquals(5432, host.port());
+    host = HostSelector.Host.parse("localhost:5433", 5432);
+    assertEquals("localhost", host.host());
+    assertEquals(5433, host.port());
+    host = HostSelector.Host.parse("[::1]:5433", 5432);
+    assertEquals("::1", host.host());
+    assertEquals(5433, host.port());
+    host = HostSelector.Host.parse("[::1]", 5432);
+    assertEquals("::1", host.host());
+    assertEquals(5432, host.port());
+    host = HostSelector.Host.parse("/var/run/postgresql", 5432);
+    assertEquals("/var/run/postgresql", host.host());
+    assertEquals(5432, host.port());
+  }
+
+  @Test
+  public void testOrdered() {
+    HostSelector.Host h1 = new HostSelector.Host("h1", 5432);
+    HostSelector.Host h2 = new HostSelector.Host("h2", 5432);
+    HostSelector selector = new HostSelector(Arrays.asList(h1, h2), HostSelection.ORDERED, 1000);
+    assertEquals(Arrays.asList(h1, h2), selector.select(0));
+    assertEquals(Arrays.asList(h1, h2), selector.select(0));
+  }
+
+  @Test
+  public void testRandom() {
+    HostSelector.Host h1 = new HostSelector.Host("h1", 5432);
+    HostSelector.Host h2 = new HostSelector.Host("h2", 5432);
+    HostSelector selector = new HostSelector(Arrays.asList(h1, h2), HostSelection.RANDOM, 1000);
+    HashSet<HostSelector.Host> firsts = new HashSet<>();
+    for (int i = 0;i < 100;i++) {
+      List<HostSelector.Host> hosts = selector.select(0);
+      assertEquals(2, hosts.size());
+      firsts.add(hosts.get(0));
+    }
+    assertEquals(2, firsts.size());
+  }
+
+  @Test
+  public void testBackoff() {
+    HostSelector.Host h1 = new HostSelector.Host("h1", 5432);
+    HostSelector.Host h2 = new HostSelector.Host("h2", 5432);
+    HostSelector selector = new HostSelector(Arrays.asList(h1, h2), HostSelection.ORDERED, 1000);
+    selector.failed(h1, 0);
+    assertEquals(Arrays.asList(h2, h1), selector.select(999));
+    assertEquals(Arrays.asList(h1, h2), selector.select(1000));
+    selector.failed(h1, 1000);
+    assertEquals(Arrays.asList(h2, h1), selector.select(2999));
+    assertEquals(Arrays.asList(h1, h2), selector.select(3000));
+    selector.succeeded(h1);
+    selector.failed(h1, 3000);
+    assertEquals(Arrays.asList(h1, h2), selector.select(4000));
+  }
+
+  @Test
+  public void testMaxBackoff() {
+    HostSelector.Host h1 = new HostSelector.Host("h1", 5432);
+    HostSelector.Host h2 = new HostSelector.Host("h2", 5432);
+    HostSelector selector = new HostSelector(Arrays.asList(h1, h2), HostSelection.ORDERED, 1000);
+    for (int i = 0;i < 10;i++) {
+      selector.failed(h1, 0);
+    }
+    assertEquals(Arrays.asList(h2, h1), selector.select(HostSelector.MAX_BACKOFF_MULTIPLIER * 1000 - 1));
+    assertEquals(Arrays.asList(h1, h2), selector.select(HostSelector.MAX_BACKOFF_MULTIPLIER * 1000));
+  }
+
+  @Test
+  public void testAllFailed() {
+    HostSelector.Host h1 = new HostSelector.Host("h1", 5432);
+    HostSelector.Host h2 = new HostSelector.Host("h2", 5432);
+    HostSelector selector = new HostSelector(Arrays.asList(h1, h2), HostSelection.ORDERED, 1000);
+    selector.failed(h1, 100);
+    selector.failed(h2, 0);
+    assertEquals(Arrays.asList(h2, h1), selector.select(0));
+  }
+}
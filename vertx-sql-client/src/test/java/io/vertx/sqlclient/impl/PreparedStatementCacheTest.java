@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl;
+
+import io.vertx.sqlclient.PreparedStatementCachePolicy;
+import io.vertx.sqlclient.impl.SocketConnectionBase.CachedPreparedStatement;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.spi.metrics.PreparedStatementCacheMetrics;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PreparedStatementCacheTest {
+
+  private static CachedPreparedStatement statement(String sql) {
+    CachedPreparedStatement cached = new CachedPreparedStatement();
+    cached.handle(CommandResponse.success(new PreparedStatement() {
+      @Override
+      public ParamDesc paramDesc() {
+        return null;
+      }
+      @Override
+      public RowDesc rowDesc() {
+        return null;
+      }
+      @Override
+      public String sql() {
+        return sql;
+      }
+      @Override
+      public String prepare(List<Object> values) {
+        return null;
+      }
+    }));
+    return cached;
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    PreparedStatementCache cache = new PreparedStatementCache(2, PreparedStatementCachePolicy.LRU, 0, null);
+    List<CachedPreparedStatement> evicted = new ArrayList<>();
+    CachedPreparedStatement s1 = statement("s1");
+    CachedPreparedStatement s2 = statement("s2");
+    CachedPreparedStatement s3 = statement("s3");
+    assertTrue(cache.put("s1", s1, evicted::add));
+    assertTrue(cache.put("s2", s2, evicted::add));
+    assertSame(s1, cache.get("s1"));
+    assertTrue(cache.put("s3", s3, evicted::add));
+    assertEquals(1, evicted.size());
+    assertSame(s2, evicted.get(0));
+    assertEquals(2, cache.size());
+    assertNull(cache.get("s2"));
+    assertSame(s1, cache.get("s1"));
+    assertSame(s3, cache.get("s3"));
+  }
+
+  @Test
+  public void testZeroCapacity() {
+    PreparedStatementCache cache = new PreparedStatementCache(0, PreparedStatementCachePolicy.LRU, 0, null);
+    assertFalse(cache.put("s1", statement("s1"), s -> fail()));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testTinyLfuAdmission() {
+    PreparedStatementCache cache = new PreparedStatementCache(2, PreparedStatementCachePolicy.TINY_LFU, 0, null);
+    List<CachedPreparedStatement> evicted = new ArrayList<>();
+    for (int i = 0;i < 3;i++) {
+      cache.get("s1");
+      cache.get("s2");
+    }
+    CachedPreparedStatement s1 = statement("s1");
+    CachedPreparedStatement s2 = statement("s2");
+    assertTrue(cache.put("s1", s1, evicted::add));
+    assertTrue(cache.put("s2", s2, evicted::add));
+    // A statement executed once does not replace a frequently used statement
+    assertNull(cache.get("s3"));
+    assertFalse(cache.put("s3", statement("s3"), evicted::add));
+    assertEquals(0, evicted.size());
+    // Until it is used at least as frequently as the least recently used statement
+    for (int i = 0;i < 5;i++) {
+      cache.get("s4");
+    }
+    cache.get("s2");
+    assertTrue(cache.put("s4", statement("s4"), evicted::add));
+    assertEquals(1, evicted.size());
+    assertSame(s1, evicted.get(0));
+  }
+
+  @Test
+  public void testTinyLfuAdmissionOfColdCache() {
+    PreparedStatementCache cache = new PreparedStatementCache(2, PreparedStatementCachePolicy.TINY_LFU, 0, null);
+    List<CachedPreparedStatement> evicted = new ArrayList<>();
+    CachedPreparedStatement s1 = statement("s1");
+    CachedPreparedStatement s2 = statement("s2");
+    assertNull(cache.get("s1"));
+    assertTrue(cache.put("s1", s1, evicted::add));
+    assertNull(cache.get("s2"));
+    assertTrue(cache.put("s2", s2, evicted::add));
+    // A cache full of statements executed once admits a new statement on its first execution
+    CachedPreparedStatement s3 = statement("s3");
+    assertNull(cache.get("s3"));
+    assertTrue(cache.put("s3", s3, evicted::add));
+    assertEquals(1, evicted.size());
+    assertSame(s1, evicted.get(0));
+    for (int i = 0;i < 5;i++) {
+      assertSame(s3, cache.get("s3"));
+    }
+    assertSame(s2, cache.get("s2"));
+  }
+
+  @Test
+  public void testPrepareThreshold() {
+    PreparedStatementCache cache = new PreparedStatementCache(2, PreparedStatementCachePolicy.LRU, 3, null);
+    assertFalse(cache.promote("s1"));
+    assertFalse(cache.promote("s2"));
+    assertFalse(cache.promote("s1"));
+    assertTrue(cache.promote("s1"));
+    assertFalse(cache.promote("s2"));
+    assertTrue(cache.promote("s2"));
+    // Counting starts again once promoted
+    assertFalse(cache.promote("s1"));
+  }
+
+  @Test
+  public void testNoPrepareThreshold() {
+    PreparedStatementCache cache = new PreparedStatementCache(2, PreparedStatementCachePolicy.LRU, 1, null);
+    assertTrue(cache.promote("s1"));
+  }
+
+  @Test
+  public void testContains() {
+    PreparedStatementCache cache = new PreparedStatementCache(2, PreparedStatementCachePolicy.LRU, 0, null);
+    CachedPreparedStatement s1 = statement("s1");
+    cache.put("s1", s1, s -> fail());
+    assertTrue(cache.contains(s1.resp.result()));
+    assertFalse(cache.contains(statement("s1").resp.result()));
+    assertFalse(cache.contains(statement("s2").resp.result()));
+    cache.clear();
+    assertFalse(cache.contains(s1.resp.result()));
+  }
+
+  @Test
+  public void testMetrics() {
+    int[] counters = new int[4];
+    PreparedStatementCacheMetrics metrics = new PreparedStatementCacheMetrics() {
+      @Override
+      public void hit() {
+        counters[0]++;
+      }
+      @Override
+      public void miss() {
+        counters[1]++;
+      }
+      @Override
+      public void evicted() {
+        counters[2]++;
+      }
+      @Override
+      public void rejected() {
+        counters[3]++;
+      }
+    };
+    PreparedStatementCache cache = new PreparedStatementCache(1, PreparedStatementCachePolicy.LRU, 0, metrics);
+    cache.get("s1");
+    cache.put("s1", statement("s1"), s -> {});
+    cache.get("s1");
+    cache.get("s2");
+    cache.put("s2", statement("s2"), s -> {});
+    assertEquals(1, counters[0]);
+    assertEquals(2, counters[1]);
+    assertEquals(1, counters[2]);
+    assertEquals(0, counters[3]);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.vertx.sqlclient.impl.columnar;
+
+import io.vertx.sqlclient.ColumnarRowSet;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class ColumnarRowSetTest {
+
+  @Test
+  public void testPrimitiveColumns() {
+    ColumnarRowSetImpl set = new ColumnarRowSetImpl();
+    set.init(Arrays.asList("id", "amount", "flag", "label"), new ColumnVector[] {
+      new IntVector(), new DoubleVector(), new BooleanVector(), new ObjectVector()
+    }, null);
+    ((IntVector) set.vector(0)).appendInt(1);
+    ((DoubleVector) set.vector(1)).appendDouble(1.5);
+    ((BooleanVector) set.vector(2)).appendBoolean(true);
+    set.append(3, "one");
+    set.endRow();
+    set.append(0, 2);
+    set.appendNull(1);
+    set.append(2, false);
+    set.appendNull(3);
+    set.endRow();
+    ColumnarRowSet result = set.complete();
+    assertEquals(2, result.size());
+    assertEquals(1, result.columnIndex("amount"));
+    assertArrayEquals(new int[] { 1, 2 }, result.getIntColumn(0));
+    assertArrayEquals(new double[] { 1.5, 0 }, result.getDoubleColumn(1), 0);
+    assertTrue(Arrays.equals(new boolean[] { true, false }, result.getBooleanColumn(2)));
+    assertArrayEquals(new Object[] { "one", null }, result.getColumn(3));
+    assertArrayEquals(new Object[] { 1.5, null }, result.getColumn(1));
+    assertFalse(result.isNull(0, 1));
+    assertTrue(result.isNull(1, 1));
+    assertEquals(2, result.getValue(1, 0));
+    assertNull(result.getValue(1, 3));
+  }
+
+  @Test
+  public void testCreateVectorFromFirstValue() {
+    ColumnarRowSetImpl set = new ColumnarRowSetImpl();
+    set.init(Arrays.asList("a", "b", "c"), new ColumnVector[3], null);
+    set.append(0, null);
+    set.append(1, 1);
+    set.append(2, null);
+    set.endRow();
+    set.append(0, 4L);
+    set.append(1, "two");
+    set.append(2, null);
+    set.endRow();
+    ColumnarRowSet result = set.complete();
+    assertArrayEquals(new long[] { 0, 4L }, result.getLongColumn(0));
+    assertTrue(result.isNull(0, 0));
+    // The column is boxed when a value does not fit in the vector
+    assertArrayEquals(new Object[] { 1, "two" }, result.getColumn(1));
+    assertArrayEquals(new Object[] { null, null }, result.getColumn(2));
+  }
+
+  @Test
+  public void testTimestampColumn() {
+    LocalDateTime t1 = LocalDateTime.of(2019, 6, 1, 12, 30, 15, 123456000);
+    LocalDateTime t2 = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999999000);
+    ColumnarRowSetImpl set = new ColumnarRowSetImpl();
+    set.init(Arrays.asList("ts"), new ColumnVector[] { new TimestampVector() }, null);
+    set.append(0, t1);
+    set.endRow();
+    set.append(0, t2);
+    set.endRow();
+    ColumnarRowSet result = set.complete();
+    assertEquals(t1, result.getValue(0, 0));
+    assertEquals(t2, result.getValue(1, 0));
+    assertEquals(-1L, result.getLongColumn(0)[1]);
+  }
+
+  @Test
+  public void testNullBitmap() {
+    IntVector vector = new IntVector();
+    for (int i = 0;i < 1000;i++) {
+      if (i % 7 == 0) {
+        vector.appendNull();
+      } else {
+        vector.appendInt(i);
+      }
+    }
+    assertEquals(1000, vector.size());
+    int[] values = vector.values();
+    assertEquals(1000, values.length);
+    for (int i = 0;i < 1000;i++) {
+      assertEquals(i % 7 == 0, vector.isNull(i));
+      assertEquals(i % 7 == 0 ? 0 : i, values[i]);
+    }
+  }
+
+  @Test
+  public void testColumnType() {
+    ColumnarRowSetImpl set = new ColumnarRowSetImpl();
+    set.init(Arrays.asList("amount"), new ColumnVector[] { new DoubleVector() }, null);
+    ColumnarRowSet result = set.complete();
+    assertEquals(0, result.getDoubleColumn(0).length);
+    try {
+      result.getIntColumn(0);
+      fail();
+    } catch (IllegalStateException ignore) {
+    }
+    try {
+      result.getRow(0);
+      fail();
+    } catch (UnsupportedOperationException ignore) {
+    }
+  }
+}
@@ -17,10 +17,21 @@
 
 package io.vertx.sqlclient.impl.pool;
 
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.impl.AdaptiveLimit;
+import io.vertx.sqlclient.impl.Connection;
 import io.vertx.sqlclient.impl.ConnectionPool;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.PrepareStatementCommand;
+import io.vertx.sqlclient.impl.command.SimpleQueryCommand;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 public class ConnectionPoolTest {
@@ -260,4 +271,624 @@ public class ConnectionPoolTest {
     pool.acquire(holder1);
     assertEquals(1, queue.size());
   }
+
+  @Test
+  public void testIdleEviction() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1).setIdleTimeout(1000));
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder.init();
+    holder.close();
+    assertEquals(1, pool.available());
+    pool.evict(System.currentTimeMillis());
+    assertEquals(1, pool.available());
+    assertEquals(0, conn.closed);
+    pool.evict(System.currentTimeMillis() + 1000);
+    assertEquals(0, pool.available());
+    assertEquals(1, conn.closed);
+  }
+
+  @Test
+  public void testIdleEvictionKeepsMinIdle() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(2).setIdleTimeout(1000).setMinIdle(1));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    SimpleConnection conn1 = new SimpleConnection();
+    queue.connect(conn1);
+    SimpleConnection conn2 = new SimpleConnection();
+    queue.connect(conn2);
+    holder1.init();
+    holder2.init();
+    holder1.close();
+    holder2.close();
+    assertEquals(2, pool.available());
+    pool.evict(System.currentTimeMillis() + 1000);
+    assertEquals(1, pool.available());
+    assertEquals(1, conn1.closed + conn2.closed);
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  public void testIdleEvictionIgnoresBorrowedConnections() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(3).setIdleTimeout(1000).setMinIdle(1));
+    SimpleHolder[] holders = new SimpleHolder[3];
+    SimpleConnection[] conns = new SimpleConnection[3];
+    for (int i = 0;i < 3;i++) {
+      holders[i] = new SimpleHolder();
+      pool.acquire(holders[i]);
+    }
+    for (int i = 0;i < 3;i++) {
+      conns[i] = new SimpleConnection();
+      queue.connect(conns[i]);
+      holders[i].init();
+    }
+    // The first connection stays borrowed
+    holders[1].close();
+    holders[2].close();
+    assertEquals(2, pool.available());
+    pool.evict(System.currentTimeMillis() + 1000);
+    assertEquals(1, pool.available());
+    assertEquals(0, conns[0].closed);
+    assertEquals(1, conns[1].closed + conns[2].closed);
+    // No connection is opened to replace the evicted one
+    assertEquals(0, queue.size());
+    pool.evict(System.currentTimeMillis() + 1000);
+    assertEquals(1, pool.available());
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  public void testMaxLifetime() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1).setMaxLifetime(1000));
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder.init();
+    holder.close();
+    pool.evict(System.currentTimeMillis());
+    assertEquals(1, pool.available());
+    pool.evict(System.currentTimeMillis() + 1000);
+    assertEquals(0, pool.available());
+    assertEquals(1, conn.closed);
+  }
+
+  @Test
+  public void testMinIdle() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(4).setMinIdle(2));
+    pool.evict();
+    assertEquals(2, queue.size());
+    assertEquals(2, pool.size());
+    pool.evict();
+    assertEquals(2, queue.size());
+    queue.connect(new SimpleConnection());
+    queue.connect(new SimpleConnection());
+    assertEquals(2, pool.available());
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    assertTrue(holder.isConnected());
+    assertEquals(1, pool.available());
+    pool.evict();
+    assertEquals(1, queue.size());
+  }
+
+  @Test
+  public void testAcquireTimeout() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, 1);
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder1.init();
+    SimpleHolder holder2 = new SimpleHolder();
+    ConnectionPool.Waiter waiter = pool.acquire(holder2, 1000);
+    assertFalse(holder2.isComplete());
+    assertTrue(pool.cancel(waiter));
+    assertTrue(holder2.isFailed());
+    assertEquals(0, pool.waiters());
+    assertFalse(pool.cancel(waiter));
+    holder1.close();
+    assertEquals(1, pool.available());
+  }
+
+  @Test
+  public void testExpiredWaiterIsSkipped() throws Exception {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, 1);
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder1.init();
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2, 1);
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder3);
+    Thread.sleep(10);
+    holder1.close();
+    assertTrue(holder2.isFailed());
+    assertTrue(holder3.isConnected());
+    assertEquals(0, pool.waiters());
+  }
+
+  @Test
+  public void testConnectCompletesAfterAcquireTimeout() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, 1);
+    SimpleHolder holder = new SimpleHolder();
+    ConnectionPool.Waiter waiter = pool.acquire(holder, 1000);
+    assertEquals(1, queue.size());
+    assertTrue(pool.cancel(waiter));
+    assertTrue(holder.isFailed());
+    queue.connect(new SimpleConnection());
+    assertEquals(1, pool.available());
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  public void testMultiplexingOpensConnectionWhenBusy() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(2).setMultiplexing(true));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn1 = new SimpleConnection();
+    queue.connect(conn1);
+    holder1.init();
+    conn1.inflight = 1;
+    holder1.close();
+    assertEquals(1, pool.available());
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    assertFalse(holder2.isComplete());
+    assertEquals(1, queue.size());
+    SimpleConnection conn2 = new SimpleConnection();
+    queue.connect(conn2);
+    holder2.init();
+    holder2.close();
+    assertEquals(2, pool.available());
+  }
+
+  @Test
+  public void testMultiplexingSelectsLeastLoaded() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(2).setMultiplexing(true));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    SimpleConnection conn1 = new SimpleConnection();
+    queue.connect(conn1);
+    SimpleConnection conn2 = new SimpleConnection();
+    queue.connect(conn2);
+    holder1.init();
+    holder2.init();
+    conn1.inflight = 2;
+    conn2.inflight = 3;
+    holder2.close();
+    holder1.close();
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder3);
+    assertTrue(holder3.isConnected());
+    holder3.init();
+    assertSame(conn1.holder, holder3.connection());
+    conn2.inflight = 1;
+    holder3.close();
+    SimpleHolder holder4 = new SimpleHolder();
+    pool.acquire(holder4);
+    assertSame(conn2.holder, holder4.connection());
+  }
+
+  @Test
+  public void testStatementAffinity() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, 2);
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    SimpleConnection conn1 = new SimpleConnection();
+    queue.connect(conn1);
+    SimpleConnection conn2 = new SimpleConnection();
+    queue.connect(conn2);
+    holder1.init();
+    holder2.init();
+    conn2.cachedStatements.add("SELECT 1");
+    holder1.close();
+    holder2.close();
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder3, 0L, "SELECT 1");
+    holder3.init();
+    assertSame(conn2.holder, holder3.connection());
+    SimpleHolder holder4 = new SimpleHolder();
+    pool.acquire(holder4, 0L, "SELECT 1");
+    holder4.init();
+    // Falls back to any available connection
+    assertSame(conn1.holder, holder4.connection());
+  }
+
+  @Test
+  public void testMetrics() {
+    ConnectionQueue queue = new ConnectionQueue();
+    SimplePoolMetrics metrics = new SimplePoolMetrics();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1).setMaxWaitQueueSize(1), metrics);
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    assertEquals(1, metrics.queued.size());
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    assertEquals(1, metrics.created);
+    assertEquals(0, metrics.queued.size());
+    assertEquals(1, metrics.inUse.size());
+    holder1.init();
+    SimpleHolder holder2 = new SimpleHolder();
+    ConnectionPool.Waiter waiter = pool.acquire(holder2, 1000);
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder3);
+    assertTrue(holder3.isFailed());
+    assertEquals(1, metrics.rejected);
+    assertTrue(pool.cancel(waiter));
+    assertEquals(2, metrics.rejected);
+    assertEquals(0, metrics.queued.size());
+    holder1.close();
+    assertEquals(0, metrics.inUse.size());
+    conn.close();
+    assertEquals(1, metrics.closed);
+    pool.close();
+    assertTrue(metrics.poolClosed);
+  }
+
+  @Test
+  public void testMetricsUsageSpansCommands() {
+    ConnectionQueue queue = new ConnectionQueue();
+    SimplePoolMetrics metrics = new SimplePoolMetrics();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1), metrics);
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder.init();
+    CommandBase<Void> cmd = new CommandBase<Void>() {};
+    Handler<CommandResponse<Void>> handler = resp -> {};
+    cmd.handler = handler;
+    holder.connection().schedule(cmd);
+    assertEquals(1, metrics.scheduled);
+    // Returned like a pool query right after scheduling the command
+    holder.close();
+    assertEquals(1, metrics.inUse.size());
+    cmd.handler.handle(CommandResponse.success(null));
+    assertEquals(1, metrics.completed);
+    assertEquals(0, metrics.inUse.size());
+  }
+
+  @Test
+  public void testMetricsConnectFailure() {
+    ConnectionQueue queue = new ConnectionQueue();
+    SimplePoolMetrics metrics = new SimplePoolMetrics();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1), metrics);
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    queue.fail(new Exception());
+    assertTrue(holder.isFailed());
+    assertEquals(1, metrics.failed);
+    assertEquals(1, metrics.rejected);
+    assertEquals(0, metrics.queued.size());
+  }
+
+  @Test
+  public void testAdaptiveSizingStartsAtMaxSize() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(4).setAdaptiveSizing(true));
+    assertEquals(4, pool.capacity());
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    // A cold pool is not throttled
+    assertEquals(2, queue.size());
+    queue.connect(new SimpleConnection());
+    queue.connect(new SimpleConnection());
+    assertTrue(holder1.isConnected());
+    assertTrue(holder2.isConnected());
+    assertFalse(pool.isSaturated());
+  }
+
+  @Test
+  public void testAdaptiveSizingAdjustsWithPoolQueries() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(2).setAdaptiveSizing(true).setMultiplexing(true));
+    SimpleConnection conn = new SimpleConnection();
+    for (int i = 0;i < AdaptiveLimit.WINDOW;i++) {
+      // Sequential queries only need a single connection
+      SimpleHolder holder = new SimpleHolder();
+      pool.acquire(holder);
+      if (i == 0) {
+        queue.connect(conn);
+      }
+      holder.init();
+      CommandBase<Void> cmd = new CommandBase<Void>() {};
+      Handler<CommandResponse<Void>> handler = resp -> {};
+      cmd.handler = handler;
+      holder.connection().schedule(cmd);
+      holder.close();
+      cmd.writtenAt = System.nanoTime() - 1_000_000;
+      cmd.handler.handle(CommandResponse.success(null));
+    }
+    assertEquals(1, pool.capacity());
+    List<CommandBase<Void>> pending = new ArrayList<>();
+    for (int i = 0;i < AdaptiveLimit.WINDOW;i++) {
+      // Like a pool query, the connection is returned as soon as the command is scheduled
+      SimpleHolder holder = new SimpleHolder();
+      pool.acquire(holder);
+      holder.init();
+      CommandBase<Void> cmd = new CommandBase<Void>() {};
+      Handler<CommandResponse<Void>> handler = resp -> {};
+      cmd.handler = handler;
+      holder.connection().schedule(cmd);
+      conn.inflight++;
+      holder.close();
+      pending.add(cmd);
+    }
+    assertEquals(1, pool.size());
+    assertEquals(1, pool.capacity());
+    for (CommandBase<Void> cmd : pending) {
+      conn.inflight--;
+      cmd.writtenAt = System.nanoTime() - 1_000_000;
+      cmd.handler.handle(CommandResponse.success(null));
+    }
+    assertEquals(2, pool.capacity());
+    // The next query opens a second connection instead of pipelining behind the busy one
+    conn.inflight = 1;
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    assertEquals(1, queue.size());
+  }
+
+  @Test
+  public void testAdaptiveSizingIgnoresCommandsNotWritten() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(2).setAdaptiveSizing(true).setMultiplexing(true));
+    SimpleConnection conn = new SimpleConnection();
+    for (int i = 0;i < AdaptiveLimit.WINDOW;i++) {
+      SimpleHolder holder = new SimpleHolder();
+      pool.acquire(holder);
+      if (i == 0) {
+        queue.connect(conn);
+      }
+      holder.init();
+      CommandBase<Void> cmd = new CommandBase<Void>() {};
+      Handler<CommandResponse<Void>> handler = resp -> {};
+      cmd.handler = handler;
+      holder.connection().schedule(cmd);
+      holder.close();
+      // Completed by the connection without reaching the server, e.g. a cached prepared statement
+      cmd.writtenAt = 0;
+      cmd.handler.handle(CommandResponse.success(null));
+    }
+    assertEquals(2, pool.capacity());
+  }
+
+  @Test
+  public void testSkipWriteQueueFullConnection() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(2));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn1 = new SimpleConnection();
+    queue.connect(conn1);
+    holder1.init();
+    holder1.close();
+    conn1.writeQueueFull = true;
+    // A new connection is opened rather than handing the full connection
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    assertEquals(1, queue.size());
+    SimpleConnection conn2 = new SimpleConnection();
+    queue.connect(conn2);
+    assertSame(conn2.holder, holder2.connection());
+    holder2.init();
+    holder2.close();
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder3);
+    assertSame(conn2.holder, holder3.connection());
+    holder3.init();
+    // The pool is full, the full connection is handed and rejects the commands
+    SimpleHolder holder4 = new SimpleHolder();
+    pool.acquire(holder4);
+    assertEquals(0, queue.size());
+    assertTrue(holder4.isConnected());
+  }
+
+  @Test
+  public void testMaxConnecting() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(4).setMaxConnecting(2));
+    SimpleHolder[] holders = new SimpleHolder[4];
+    for (int i = 0;i < holders.length;i++) {
+      holders[i] = new SimpleHolder();
+      pool.acquire(holders[i]);
+    }
+    assertEquals(2, queue.size());
+    assertEquals(2, pool.waiters());
+    queue.connect(new SimpleConnection());
+    assertTrue(holders[0].isConnected());
+    assertEquals(2, queue.size());
+    queue.connect(new SimpleConnection());
+    queue.connect(new SimpleConnection());
+    queue.connect(new SimpleConnection());
+    for (SimpleHolder holder : holders) {
+      assertTrue(holder.isConnected());
+    }
+    assertEquals(4, pool.size());
+  }
+
+  @Test
+  public void testConnectBackoff() throws Exception {
+    ConnectionQueue queue = new ConnectionQueue();
+    List<Long> delays = new ArrayList<>();
+    List<Runnable> tasks = new ArrayList<>();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1).setConnectBackoff(20), null, (delay, task) -> {
+      delays.add(delay);
+      tasks.add(task);
+    });
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    queue.fail(new Exception());
+    assertTrue(holder1.isFailed());
+    assertFalse(holder2.isComplete());
+    assertEquals(0, queue.size());
+    assertEquals(1, tasks.size());
+    assertTrue(delays.get(0) > 0 && delays.get(0) <= 20);
+    Thread.sleep(40);
+    tasks.get(0).run();
+    assertEquals(1, queue.size());
+    queue.connect(new SimpleConnection());
+    assertTrue(holder2.isConnected());
+  }
+
+  @Test
+  public void testCircuitBreaker() throws Exception {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions()
+      .setMaxSize(2)
+      .setConnectBackoff(20)
+      .setCircuitBreakerThreshold(2));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    queue.fail(new Exception());
+    assertTrue(holder1.isFailed());
+    Thread.sleep(40);
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    queue.fail(new Exception());
+    assertTrue(holder2.isFailed());
+    // Circuit is open
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder3);
+    assertTrue(holder3.isFailed());
+    assertEquals(0, queue.size());
+    Thread.sleep(60);
+    // Circuit is half open
+    SimpleHolder holder4 = new SimpleHolder();
+    pool.acquire(holder4);
+    SimpleHolder holder5 = new SimpleHolder();
+    pool.acquire(holder5);
+    assertEquals(1, queue.size());
+    assertFalse(holder5.isComplete());
+    queue.connect(new SimpleConnection());
+    assertTrue(holder4.isConnected());
+    // Circuit is closed
+    assertEquals(1, queue.size());
+    queue.connect(new SimpleConnection());
+    assertTrue(holder5.isConnected());
+  }
+
+  @Test
+  public void testCircuitBreakerWithoutConnectBackoff() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions()
+      .setMaxSize(2)
+      .setCircuitBreakerThreshold(2));
+    for (int i = 0;i < 2;i++) {
+      SimpleHolder holder = new SimpleHolder();
+      pool.acquire(holder);
+      queue.fail(new Exception());
+      assertTrue(holder.isFailed());
+    }
+    // Circuit is open
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    assertTrue(holder.isFailed());
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  public void testMaxWaitQueueSizeWhileConnecting() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions()
+      .setMaxSize(2)
+      .setMaxConnecting(1)
+      .setMaxWaitQueueSize(1));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    // Waiters are held back by the connect limit
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    SimpleHolder holder3 = new SimpleHolder();
+    pool.acquire(holder3);
+    SimpleHolder holder4 = new SimpleHolder();
+    pool.acquire(holder4);
+    assertEquals(1, queue.size());
+    assertFalse(holder2.isComplete());
+    assertFalse(holder3.isComplete());
+    assertTrue(holder4.isFailed());
+    assertEquals(2, pool.waiters());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testResetOnReleaseWithMultiplexing() {
+    new ConnectionPool(new ConnectionQueue(), new PoolOptions().setMultiplexing(true).setResetOnRelease(true));
+  }
+
+  @Test
+  public void testResetOnRelease() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1).setResetOnRelease(true));
+    SimpleHolder holder1 = new SimpleHolder();
+    pool.acquire(holder1);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder1.init();
+    holder1.connection().schedule(new SimpleQueryCommand<>("SELECT 1", false, null, null));
+    holder1.close();
+    // Queries do not change the session state
+    assertEquals(0, conn.resets.size());
+    SimpleHolder holder2 = new SimpleHolder();
+    pool.acquire(holder2);
+    holder2.init();
+    holder2.connection().schedule(new SimpleQueryCommand<>("SET search_path TO test", false, null, null));
+    holder2.close();
+    assertEquals(1, conn.resets.size());
+    assertEquals(1, pool.available());
+    conn.resets.get(0).handle(Future.failedFuture("failed"));
+    assertEquals(1, conn.closed);
+  }
+
+  @Test
+  public void testResetOnReleaseAfterPendingCommands() {
+    ConnectionQueue queue = new ConnectionQueue();
+    ConnectionPool pool = new ConnectionPool(queue, new PoolOptions().setMaxSize(1).setResetOnRelease(true));
+    SimpleHolder holder = new SimpleHolder();
+    pool.acquire(holder);
+    SimpleConnection conn = new SimpleConnection();
+    queue.connect(conn);
+    holder.init();
+    Connection connection = holder.connection();
+    // Like a pool prepared query, the query is scheduled once the statement is prepared
+    PrepareStatementCommand prepare = new PrepareStatementCommand("CALL proc()");
+    SimpleQueryCommand<Void> query = new SimpleQueryCommand<>("CALL proc()", false, null, null);
+    query.handler = resp -> {};
+    prepare.handler = resp -> connection.schedule(query);
+    connection.schedule(prepare);
+    holder.close();
+    assertEquals(0, conn.resets.size());
+    assertEquals(0, pool.available());
+    prepare.handler.handle(CommandResponse.success(null));
+    assertEquals(2, conn.scheduled.size());
+    assertEquals(0, conn.resets.size());
+    query.handler.handle(CommandResponse.success(true));
+    assertEquals(1, conn.resets.size());
+    assertEquals(1, pool.available());
+  }
 }
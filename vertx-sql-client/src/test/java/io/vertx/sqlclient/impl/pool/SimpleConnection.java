@@ -17,13 +17,26 @@
 
 package io.vertx.sqlclient.impl.pool;
 
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
 import io.vertx.sqlclient.impl.command.CommandBase;
 import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.HostSelector;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 class SimpleConnection implements Connection {
 
   Holder holder;
   int closed;
+  int inflight;
+  boolean writeQueueFull;
+  final List<CommandBase<?>> scheduled = new ArrayList<>();
+  final List<Handler<AsyncResult<Void>>> resets = new ArrayList<>();
+  final Set<String> cachedStatements = new HashSet<>();
 
   @Override
   public void init(Holder holder) {
@@ -46,7 +59,43 @@ class SimpleConnection implements Connection {
 
   @Override
   public void schedule(CommandBase<?> cmd) {
-    throw new UnsupportedOperationException();
+    cmd.writtenAt = System.nanoTime();
+    scheduled.add(cmd);
+  }
+
+  @Override
+  public boolean reset(Handler<AsyncResult<Void>> handler) {
+    resets.add(handler);
+    return true;
+  }
+
+  @Override
+  public int maxPendingQueueSize() {
+    return -1;
+  }
+
+  @Override
+  public boolean pipelinedTransactions() {
+    return false;
+  }
+
+  @Override
+  public boolean isStatementCached(String sql) {
+    return cachedStatements.contains(sql);
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return writeQueueFull;
+  }
+
+  @Override
+  public void drainHandler(Handler<Void> handler) {
+  }
+
+  @Override
+  public int inflight() {
+    return inflight;
   }
 
   @Override
@@ -58,4 +107,9 @@ class SimpleConnection implements Connection {
   public int getSecretKey() {
     return -1;
   }
+
+  @Override
+  public HostSelector.Host getHost() {
+    return null;
+  }
 }
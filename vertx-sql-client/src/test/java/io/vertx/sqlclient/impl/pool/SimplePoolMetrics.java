@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.vertx.sqlclient.impl.pool;
+
+import io.vertx.sqlclient.spi.metrics.ConnectionPoolMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class SimplePoolMetrics implements ConnectionPoolMetrics<Object> {
+
+  final List<Object> queued = new ArrayList<>();
+  final List<Object> inUse = new ArrayList<>();
+  int rejected;
+  int created;
+  int failed;
+  int closed;
+  int scheduled;
+  int completed;
+  boolean poolClosed;
+
+  @Override
+  public Object enqueued() {
+    Object metric = new Object();
+    queued.add(metric);
+    return metric;
+  }
+
+  @Override
+  public Object acquired(Object requestMetric) {
+    if (!queued.remove(requestMetric)) {
+      throw new IllegalStateException();
+    }
+    Object metric = new Object();
+    inUse.add(metric);
+    return metric;
+  }
+
+  @Override
+  public void rejected(Object requestMetric) {
+    if (!queued.remove(requestMetric)) {
+      throw new IllegalStateException();
+    }
+    rejected++;
+  }
+
+  @Override
+  public void released(Object usageMetric) {
+    if (!inUse.remove(usageMetric)) {
+      throw new IllegalStateException();
+    }
+  }
+
+  @Override
+  public void connectionCreated() {
+    created++;
+  }
+
+  @Override
+  public void connectionFailed() {
+    failed++;
+  }
+
+  @Override
+  public void connectionClosed() {
+    closed++;
+  }
+
+  @Override
+  public void commandScheduled(int inflight) {
+    scheduled++;
+  }
+
+  @Override
+  public void commandCompleted(int inflight) {
+    completed++;
+  }
+
+  @Override
+  public void close() {
+    poolClosed = true;
+  }
+}
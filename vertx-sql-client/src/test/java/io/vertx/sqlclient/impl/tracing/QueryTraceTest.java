@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2017 Julien Viet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+
+package io.vertx.sqlclient.impl.tracing;
+
+import io.vertx.sqlclient.spi.tracing.SpanQueryTracer;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class QueryTraceTest {
+
+  @Test
+  public void testTimings() {
+    QueryTrace trace = new QueryTrace("SELECT 1", 1000, 3000);
+    trace.writtenAt = 4000;
+    trace.encodedAt = 4500;
+    trace.rowDecoded(10000, 10200);
+    trace.rowDecoded(10300, 10400);
+    trace.completed(11000);
+    assertEquals("SELECT 1", trace.sql());
+    assertEquals(2000, trace.acquireTime());
+    assertEquals(0, trace.prepareTime());
+    assertEquals(1000, trace.queueTime());
+    assertEquals(500, trace.encodeTime());
+    assertEquals(5500, trace.serverTime());
+    assertEquals(300, trace.decodeTime());
+    assertEquals(10000, trace.totalTime());
+  }
+
+  @Test
+  public void testTimingsOfPreparedQuery() {
+    QueryTrace trace = new QueryTrace("SELECT $1", 1000, 3000, 5000);
+    trace.writtenAt = 5000;
+    trace.encodedAt = 5500;
+    trace.completed(8000);
+    assertEquals(2000, trace.acquireTime());
+    assertEquals(2000, trace.prepareTime());
+    assertEquals(0, trace.queueTime());
+    assertEquals(7000, trace.totalTime());
+  }
+
+  @Test
+  public void testTimingsWithoutRows() {
+    QueryTrace trace = new QueryTrace("UPDATE t SET v = 1", 0, 3000);
+    trace.writtenAt = 3000;
+    trace.encodedAt = 3500;
+    trace.completed(8000);
+    assertEquals(0, trace.acquireTime());
+    assertEquals(4500, trace.serverTime());
+    assertEquals(0, trace.decodeTime());
+    assertEquals(5000, trace.totalTime());
+  }
+
+  @Test
+  public void testTimingsOfQueryNotWritten() {
+    QueryTrace trace = new QueryTrace("SELECT 1", 0, 3000);
+    trace.completed(8000);
+    assertEquals(0, trace.queueTime());
+    assertEquals(0, trace.encodeTime());
+    assertEquals(0, trace.serverTime());
+    assertEquals(5000, trace.totalTime());
+  }
+
+  @Test
+  public void testSpanQueryTracer() {
+    Map<String, Object> tags = new HashMap<>();
+    boolean[] finished = new boolean[1];
+    SpanQueryTracer<Map<String, Object>> tracer = new SpanQueryTracer<Map<String, Object>>() {
+      @Override
+      protected Map<String, Object> startSpan(String operationName) {
+        tags.put("operation", operationName);
+        return tags;
+      }
+      @Override
+      protected void setTag(Map<String, Object> span, String key, Object value) {
+        span.put(key, value);
+      }
+      @Override
+      protected void finishSpan(Map<String, Object> span) {
+        finished[0] = true;
+      }
+    };
+    Map<String, Object> span = tracer.queryStarted("SELECT 1");
+    assertEquals("Query", tags.get("operation"));
+    assertEquals("SELECT 1", tags.get("db.statement"));
+    QueryTrace trace = new QueryTrace("SELECT 1", 0, 0);
+    trace.writtenAt = 1000;
+    trace.encodedAt = 3000;
+    trace.completed(10000);
+    tracer.queryCompleted(span, trace, new Exception("failed"));
+    assertEquals(2L, tags.get("db.encode_time_us"));
+    assertEquals(7L, tags.get("db.server_time_us"));
+    assertEquals(true, tags.get("error"));
+    assertTrue(finished[0]);
+  }
+}